@@ -0,0 +1,67 @@
+package mutiny.zero.benchmarks;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * A {@link Flow.Subscriber} that requests items in batches of a fixed size, and that sinks everything into a
+ * {@link Blackhole}.
+ * <p>
+ * A new batch is requested from {@link #onNext(Object)} as soon as the previous one has been fully received, so demand
+ * is never exhausted for longer than the time it takes to emit the last item of a batch.
+ * A batch size of {@link Long#MAX_VALUE} results in a single unbounded request.
+ *
+ * @param <T> the items type
+ */
+final class BatchingSubscriber<T> implements Flow.Subscriber<T> {
+
+    private final Blackhole blackhole;
+    private final long batchSize;
+    private final CountDownLatch terminated = new CountDownLatch(1);
+
+    private Flow.Subscription subscription;
+    private long remaining;
+
+    BatchingSubscriber(Blackhole blackhole, long batchSize) {
+        this.blackhole = blackhole;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        this.subscription = subscription;
+        remaining = batchSize;
+        subscription.request(batchSize);
+    }
+
+    @Override
+    public void onNext(T item) {
+        blackhole.consume(item);
+        if (batchSize != Long.MAX_VALUE && --remaining == 0L) {
+            remaining = batchSize;
+            subscription.request(batchSize);
+        }
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        blackhole.consume(throwable);
+        terminated.countDown();
+    }
+
+    @Override
+    public void onComplete() {
+        terminated.countDown();
+    }
+
+    /**
+     * Wait for a terminal signal, be it a completion or an error.
+     *
+     * @throws InterruptedException when the current thread is interrupted while waiting
+     */
+    void awaitTermination() throws InterruptedException {
+        terminated.await();
+    }
+}
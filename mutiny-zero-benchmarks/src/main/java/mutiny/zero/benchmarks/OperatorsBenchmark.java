@@ -0,0 +1,147 @@
+package mutiny.zero.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import mutiny.zero.ZeroPublisher;
+import mutiny.zero.operators.Buffer;
+import mutiny.zero.operators.Concat;
+import mutiny.zero.operators.FlatMap;
+import mutiny.zero.operators.Merge;
+import mutiny.zero.operators.ObserveOn;
+import mutiny.zero.operators.Select;
+import mutiny.zero.operators.Transform;
+
+/**
+ * Benchmarks of the {@link Transform}, {@link Select}, {@link ObserveOn}, {@link Merge}, {@link Concat},
+ * {@link FlatMap} and {@link Buffer} operators over in-memory sources.
+ * <p>
+ * Scores are expressed in source items per second.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OperatorsBenchmark {
+
+    static final int ITEMS = 10_000;
+
+    @Param({ "1", "16", "256", "9223372036854775807" })
+    long batchSize;
+
+    private List<Integer> list;
+    private ExecutorService executor;
+
+    @Setup
+    public void setup() {
+        Integer[] items = new Integer[ITEMS];
+        for (int i = 0; i < ITEMS; i++) {
+            items[i] = i;
+        }
+        list = Arrays.asList(items);
+        executor = Executors.newSingleThreadExecutor();
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ITEMS)
+    public void transform(Blackhole blackhole) throws InterruptedException {
+        run(new Transform<>(ZeroPublisher.fromIterable(list), String::valueOf), blackhole);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ITEMS)
+    public void selectAll(Blackhole blackhole) throws InterruptedException {
+        run(new Select<>(ZeroPublisher.fromIterable(list), n -> true), blackhole);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ITEMS)
+    public void transformThenSelectChain(Blackhole blackhole) throws InterruptedException {
+        Flow.Publisher<Integer> publisher = ZeroPublisher.fromIterable(list);
+        publisher = new Transform<>(publisher, n -> n + 1);
+        publisher = new Select<>(publisher, n -> n > 0);
+        publisher = new Transform<>(publisher, n -> n * 2);
+        publisher = new Select<>(publisher, n -> n % 2 == 0);
+        run(publisher, blackhole);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ITEMS)
+    public void observeOn(Blackhole blackhole) throws InterruptedException {
+        run(new ObserveOn<>(ZeroPublisher.fromIterable(list), executor), blackhole);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ITEMS)
+    public void merge(Blackhole blackhole) throws InterruptedException {
+        int share = ITEMS / 4;
+        List<Flow.Publisher<Integer>> publishers = Arrays.asList(
+                ZeroPublisher.fromIterable(list.subList(0, share)),
+                ZeroPublisher.fromIterable(list.subList(share, 2 * share)),
+                ZeroPublisher.fromIterable(list.subList(2 * share, 3 * share)),
+                ZeroPublisher.fromIterable(list.subList(3 * share, ITEMS)));
+        run(ZeroPublisher.merge(publishers, 4, Merge.DEFAULT_PREFETCH), blackhole);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ITEMS)
+    public void concatSmallPages(Blackhole blackhole) throws InterruptedException {
+        List<Flow.Publisher<Integer>> pages = new ArrayList<>();
+        for (int i = 0; i < ITEMS; i += 10) {
+            pages.add(ZeroPublisher.fromIterable(list.subList(i, i + 10)));
+        }
+        run(new Concat<>(pages), blackhole);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ITEMS)
+    public void flatMapScalars(Blackhole blackhole) throws InterruptedException {
+        run(new FlatMap<>(ZeroPublisher.fromIterable(list), ZeroPublisher::fromItems), blackhole);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ITEMS)
+    public void flatMapSmallPages(Blackhole blackhole) throws InterruptedException {
+        Flow.Publisher<Integer> starts = ZeroPublisher.fromIterable(list.subList(0, ITEMS / 10));
+        run(new FlatMap<>(starts, n -> ZeroPublisher.fromIterable(list.subList(n * 10, n * 10 + 10))), blackhole);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ITEMS)
+    public void buffer(Blackhole blackhole) throws InterruptedException {
+        run(new Buffer<>(ZeroPublisher.fromIterable(list), 100), blackhole);
+    }
+
+    private <T> void run(Flow.Publisher<T> publisher, Blackhole blackhole) throws InterruptedException {
+        BatchingSubscriber<T> subscriber = new BatchingSubscriber<>(blackhole, batchSize);
+        publisher.subscribe(subscriber);
+        subscriber.awaitTermination();
+    }
+}
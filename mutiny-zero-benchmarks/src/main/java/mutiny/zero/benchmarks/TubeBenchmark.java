@@ -0,0 +1,130 @@
+package mutiny.zero.benchmarks;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import mutiny.zero.BackpressureStrategy;
+import mutiny.zero.Tube;
+import mutiny.zero.TubeConfiguration;
+import mutiny.zero.ZeroPublisher;
+
+/**
+ * Benchmarks of {@link Tube}-based publishers for each {@link BackpressureStrategy}.
+ * <p>
+ * Items are sent by {@code producers} threads, each sending an equal share of the items.
+ * A single producer sends from the benchmark thread, while multiple producers send from a thread pool.
+ * Producers send items one by one when {@code sendBatch} is {@code 1}, or in {@link Tube#sendAll(Object[], int, int)}
+ * batches otherwise.
+ * <p>
+ * Scores are expressed in items sent per second.
+ * Note that depending on the strategy, items may be dropped, buffered or cause a terminal error when sent while there is
+ * no outstanding demand, so run with {@code -prof gc} to also track allocations per item.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TubeBenchmark {
+
+    static final int ITEMS = 10_000;
+
+    @Param
+    BackpressureStrategy strategy;
+
+    @Param({ "1", "16", "256", "9223372036854775807" })
+    long batchSize;
+
+    @Param({ "1", "4" })
+    int producers;
+
+    @Param({ "1024" })
+    int bufferSize;
+
+    @Param({ "1", "500" })
+    int sendBatch;
+
+    private Integer[] items;
+    private ExecutorService executor;
+
+    @Setup
+    public void setup() {
+        items = new Integer[ITEMS];
+        for (int i = 0; i < ITEMS; i++) {
+            items[i] = i;
+        }
+        if (producers > 1) {
+            executor = Executors.newFixedThreadPool(producers);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ITEMS)
+    public void create(Blackhole blackhole) throws InterruptedException {
+        TubeConfiguration configuration = new TubeConfiguration()
+                .withBackpressureStrategy(strategy)
+                .withBufferSize(bufferSize);
+        Flow.Publisher<Integer> publisher = ZeroPublisher.create(configuration, this::produce);
+        BatchingSubscriber<Integer> subscriber = new BatchingSubscriber<>(blackhole, batchSize);
+        publisher.subscribe(subscriber);
+        subscriber.awaitTermination();
+    }
+
+    private void produce(Tube<Integer> tube) {
+        if (producers == 1) {
+            send(tube, 0, ITEMS);
+            tube.complete();
+            return;
+        }
+        AtomicInteger pending = new AtomicInteger(producers);
+        int share = ITEMS / producers;
+        for (int p = 0; p < producers; p++) {
+            int from = p * share;
+            int to = (p == producers - 1) ? ITEMS : from + share;
+            executor.execute(() -> {
+                send(tube, from, to);
+                if (pending.decrementAndGet() == 0) {
+                    tube.complete();
+                }
+            });
+        }
+    }
+
+    private void send(Tube<Integer> tube, int from, int to) {
+        if (sendBatch == 1) {
+            for (int i = from; i < to && !tube.cancelled(); i++) {
+                tube.send(items[i]);
+            }
+            return;
+        }
+        for (int i = from; i < to && !tube.cancelled(); i += sendBatch) {
+            tube.sendAll(items, i, Math.min(sendBatch, to - i));
+        }
+    }
+}
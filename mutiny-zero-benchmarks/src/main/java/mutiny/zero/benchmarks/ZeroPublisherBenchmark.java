@@ -0,0 +1,168 @@
+package mutiny.zero.benchmarks;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import mutiny.zero.ZeroPublisher;
+
+/**
+ * Benchmarks of the {@link ZeroPublisher} factory methods over in-memory data.
+ * <p>
+ * Scores are expressed in items per second.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ZeroPublisherBenchmark {
+
+    static final int ITEMS = 10_000;
+
+    @Param({ "1", "16", "256", "9223372036854775807" })
+    long batchSize;
+
+    private Integer[] items;
+    private int[] ints;
+    private List<Integer> list;
+    private CompletableFuture<Integer> completedFuture;
+
+    @Setup
+    public void setup() {
+        items = new Integer[ITEMS];
+        for (int i = 0; i < ITEMS; i++) {
+            items[i] = i;
+        }
+        ints = IntStream.range(0, ITEMS).toArray();
+        list = Arrays.asList(items);
+        completedFuture = CompletableFuture.completedFuture(42);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ITEMS)
+    public void fromItems(Blackhole blackhole) throws InterruptedException {
+        run(ZeroPublisher.fromItems(items), blackhole);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ITEMS)
+    public void fromIterable(Blackhole blackhole) throws InterruptedException {
+        run(ZeroPublisher.fromIterable(list), blackhole);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ITEMS)
+    public void fromStream(Blackhole blackhole) throws InterruptedException {
+        run(ZeroPublisher.fromStream(list::stream), blackhole);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ITEMS)
+    public void fromStreamWithCostlyStage(Blackhole blackhole) throws InterruptedException {
+        run(ZeroPublisher.fromStream(() -> list.stream().map(ZeroPublisherBenchmark::costly)), blackhole);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ITEMS)
+    public void fromStreamParallelWithCostlyStage(Blackhole blackhole) throws InterruptedException {
+        int parallelism = Runtime.getRuntime().availableProcessors();
+        run(ZeroPublisher.fromStreamParallel(() -> list.stream().map(ZeroPublisherBenchmark::costly), parallelism,
+                ForkJoinPool.commonPool()), blackhole);
+    }
+
+    private static Integer costly(Integer n) {
+        Blackhole.consumeCPU(256L);
+        return n;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ITEMS)
+    public void fromBoxedIntStream(Blackhole blackhole) throws InterruptedException {
+        run(ZeroPublisher.fromStream(() -> IntStream.range(0, ITEMS).boxed()), blackhole);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ITEMS)
+    public void fromIntStream(Blackhole blackhole) throws InterruptedException {
+        run(ZeroPublisher.fromIntStream(() -> IntStream.range(0, ITEMS)), blackhole);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ITEMS)
+    public void fromInts(Blackhole blackhole) throws InterruptedException {
+        run(ZeroPublisher.fromInts(ints), blackhole);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ITEMS)
+    public void range(Blackhole blackhole) throws InterruptedException {
+        run(ZeroPublisher.range(0, ITEMS), blackhole);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ITEMS)
+    public void fromGenerator(Blackhole blackhole) throws InterruptedException {
+        run(ZeroPublisher.fromGenerator(() -> items, ArrayIterator::new), blackhole);
+    }
+
+    @Benchmark
+    public void fromCompletedCompletionStage(Blackhole blackhole) throws InterruptedException {
+        run(ZeroPublisher.fromCompletionStage(() -> completedFuture), blackhole);
+    }
+
+    @Benchmark
+    public void fromDeferredCompletionStage(Blackhole blackhole) throws InterruptedException {
+        CompletableFuture<Integer> future = new CompletableFuture<>();
+        BatchingSubscriber<Integer> subscriber = new BatchingSubscriber<>(blackhole, batchSize);
+        ZeroPublisher.fromCompletionStage(() -> future).subscribe(subscriber);
+        future.complete(42);
+        subscriber.awaitTermination();
+    }
+
+    private void run(Flow.Publisher<Integer> publisher, Blackhole blackhole) throws InterruptedException {
+        BatchingSubscriber<Integer> subscriber = new BatchingSubscriber<>(blackhole, batchSize);
+        publisher.subscribe(subscriber);
+        subscriber.awaitTermination();
+    }
+
+    private static final class ArrayIterator implements Iterator<Integer> {
+
+        private final Integer[] array;
+        private int index;
+
+        ArrayIterator(Integer[] array) {
+            this.array = array;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return index < array.length;
+        }
+
+        @Override
+        public Integer next() {
+            return array[index++];
+        }
+    }
+}
@@ -1,8 +1,18 @@
 package mutiny.zero;
 
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
 import java.util.function.LongConsumer;
 
+import mutiny.zero.internal.Helper;
+
 /**
  * A {@link Tube} is a general-purpose abstraction for creating {@link Flow.Publisher}.
  * <p>
@@ -27,6 +37,167 @@ public interface Tube<T> {
      */
     Tube<T> send(T item);
 
+    /**
+     * Send a batch of items.
+     * <p>
+     * This is equivalent to sending each item in order, but implementations may deliver the batch with less
+     * synchronization than individual {@link #send(Object)} calls.
+     * Items beyond the current demand are handled according to the back-pressure strategy of this {@link Tube}.
+     *
+     * @param items the items
+     * @return this {@link Tube} instance
+     */
+    default Tube<T> sendAll(Iterable<? extends T> items) {
+        if (items == null) {
+            fail(new NullPointerException("The items are null"));
+            return this;
+        }
+        for (T item : items) {
+            send(item);
+        }
+        return this;
+    }
+
+    /**
+     * Send a batch of items from an array.
+     * <p>
+     * This is equivalent to sending each item in order, but implementations may deliver the batch with less
+     * synchronization than individual {@link #send(Object)} calls.
+     * Items beyond the current demand are handled according to the back-pressure strategy of this {@link Tube}.
+     *
+     * @param items the items array
+     * @param offset the index of the first item to send
+     * @param length the number of items to send
+     * @return this {@link Tube} instance
+     * @throws IndexOutOfBoundsException if {@code offset} and {@code length} are out of the array bounds
+     */
+    default Tube<T> sendAll(T[] items, int offset, int length) {
+        if (items == null) {
+            fail(new NullPointerException("The items are null"));
+            return this;
+        }
+        return sendAll(Arrays.asList(items).subList(offset, offset + length));
+    }
+
+    /**
+     * Send an item once there is outstanding demand, blocking the calling thread until then.
+     * <p>
+     * This provides back-pressure to producers that can afford blocking (e.g., virtual threads reading from a blocking
+     * source) without having to buffer or drop items.
+     * The item is not sent if the subscription is cancelled or if the tube fails while waiting.
+     * <p>
+     * The tubes created by {@link ZeroPublisher} reserve one outstanding request for the item before sending it, so
+     * concurrent producers woken by the same request never send more items than requested.
+     * The default implementation polls {@link #outstandingRequests()} and does not reserve demand.
+     *
+     * @param item the item
+     * @return this {@link Tube} instance
+     * @throws InterruptedException if the calling thread is interrupted while waiting for demand
+     */
+    default Tube<T> sendBlocking(T item) throws InterruptedException {
+        if (pollDemand(-1L)) {
+            send(item);
+        }
+        return this;
+    }
+
+    /**
+     * Send an item once there is outstanding demand, blocking the calling thread until then or until a timeout expires.
+     * <p>
+     * This is the same as {@link #sendBlocking(Object)}, except that waiting is bounded.
+     *
+     * @param item the item
+     * @param timeout the maximum duration to wait for demand
+     * @return {@code true} if the item has been sent, {@code false} if the timeout expired, if the subscription has been
+     *         cancelled or if the tube has failed
+     * @throws InterruptedException if the calling thread is interrupted while waiting for demand
+     */
+    default boolean sendWithTimeout(T item, Duration timeout) throws InterruptedException {
+        requireNonNull(timeout, "The timeout cannot be null");
+        if (pollDemand(Math.max(0L, Helper.toNanos(timeout)))) {
+            send(item);
+            return true;
+        }
+        return false;
+    }
+
+    // Waits forever when timeoutNanos is negative, returns false on timeout or when the subscription is cancelled
+    private boolean pollDemand(long timeoutNanos) throws InterruptedException {
+        long start = System.nanoTime();
+        while (!cancelled()) {
+            if (outstandingRequests() > 0L) {
+                return true;
+            }
+            long waited = System.nanoTime() - start;
+            if (timeoutNanos >= 0L && waited >= timeoutNanos) {
+                return false;
+            }
+            // Poll every millisecond at most
+            long pause = (timeoutNanos < 0L) ? 1_000_000L : Math.min(1_000_000L, timeoutNanos - waited);
+            TimeUnit.NANOSECONDS.sleep(pause);
+        }
+        return false;
+    }
+
+    /**
+     * Get a {@link CompletionStage} that completes once there is outstanding demand.
+     * <p>
+     * This is the non-blocking counterpart of {@link #sendBlocking(Object)}, allowing producers to pause reading from
+     * their source until the subscriber is ready for more items.
+     * The returned stage completes immediately when there is already outstanding demand, and it fails with a
+     * {@link java.util.concurrent.CancellationException} if the subscription is cancelled, or with the tube failure if
+     * it fails.
+     * Completion happens on the thread that requests items, possibly from within a subscriber signal, so dependent
+     * actions should be short and non-blocking.
+     * A request completes at most as many pending stages as there are outstanding requests, but no demand is reserved
+     * for them: producers competing for the same demand should use {@link #sendAsync(Object)} instead.
+     * <p>
+     * The default implementation polls {@link #outstandingRequests()} about every millisecond from the
+     * {@link CompletableFuture#delayedExecutor(long, TimeUnit) default delayed executor}.
+     *
+     * @return the stage
+     */
+    default CompletionStage<Void> awaitDemand() {
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        checkDemand(future);
+        return future;
+    }
+
+    // Completes the future once there is outstanding demand, or fails it once the subscription is cancelled
+    private void checkDemand(CompletableFuture<Void> future) {
+        if (future.isDone()) {
+            return;
+        }
+        if (cancelled()) {
+            future.completeExceptionally(new CancellationException("The subscription has been cancelled"));
+        } else if (outstandingRequests() > 0L) {
+            future.complete(null);
+        } else {
+            CompletableFuture.delayedExecutor(1L, TimeUnit.MILLISECONDS).execute(() -> checkDemand(future));
+        }
+    }
+
+    /**
+     * Send an item once there is outstanding demand, without blocking.
+     * <p>
+     * The item is held by this {@link Tube} until there is outstanding demand for it, then it is delivered and the
+     * returned stage completes, possibly on the thread that requests items.
+     * Pending items are delivered in order and each one takes one outstanding request, rather than all at once on the
+     * next request.
+     * Items sent afterwards by the same producer, with any method, are delivered after this item.
+     * The returned stage fails with a {@link java.util.concurrent.CancellationException} if the subscription is
+     * cancelled, or with the tube failure if it fails, in which case the item is not sent.
+     * <p>
+     * The default implementation sends the item with {@link #send(Object)} once {@link #awaitDemand()} completes, so
+     * it does not order the item with the items sent meanwhile.
+     *
+     * @param item the item
+     * @return the stage that completes once the item has been sent
+     */
+    default CompletionStage<Void> sendAsync(T item) {
+        return awaitDemand().thenRun(() -> send(item));
+    }
+
     /**
      * Terminally signal an error.
      * 
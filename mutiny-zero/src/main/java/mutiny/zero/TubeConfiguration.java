@@ -9,6 +9,7 @@ public final class TubeConfiguration {
 
     private BackpressureStrategy backpressureStrategy = BackpressureStrategy.DROP;
     private int bufferSize = -1;
+    private boolean singleProducer = false;
 
     /**
      * Specify the back-pressure strategy, cannot be {@code null}.
@@ -35,6 +36,24 @@ public final class TubeConfiguration {
         return this;
     }
 
+    /**
+     * Specify whether items are sent to the {@link Tube} from a single producer at a time.
+     * The default is {@code false}.
+     * <p>
+     * When {@code true}, the {@link Tube} uses cheaper internal data structures that do not support concurrent calls to
+     * {@link Tube#send(Object)}.
+     * Sending from different threads remains possible as long as these calls do not overlap, such as when a single
+     * logical producer hops between threads of an executor.
+     * Concurrent sends are detected when assertions are enabled, and result in an {@link AssertionError}.
+     *
+     * @param singleProducer {@code true} when there is a single producer, {@code false} otherwise
+     * @return this configuration
+     */
+    public TubeConfiguration withSingleProducer(boolean singleProducer) {
+        this.singleProducer = singleProducer;
+        return this;
+    }
+
     /**
      * Get the back-pressure strategy.
      *
@@ -52,4 +71,13 @@ public final class TubeConfiguration {
     public int getBufferSize() {
         return bufferSize;
     }
+
+    /**
+     * Check if the {@link Tube} has a single producer.
+     *
+     * @return {@code true} when there is a single producer, {@code false} otherwise
+     */
+    public boolean isSingleProducer() {
+        return singleProducer;
+    }
 }
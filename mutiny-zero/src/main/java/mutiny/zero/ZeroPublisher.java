@@ -2,18 +2,28 @@ package mutiny.zero;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Optional;
+import java.util.RandomAccess;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 import java.util.concurrent.Flow.Publisher;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import mutiny.zero.internal.*;
+import mutiny.zero.operators.Concat;
+import mutiny.zero.operators.Merge;
+import mutiny.zero.operators.Multicast;
+import mutiny.zero.operators.Replay;
 
 /**
  * Factory methods to simplify the creation of reactive streams compliant {@link Publisher}.
@@ -37,7 +47,7 @@ public interface ZeroPublisher {
     @SafeVarargs
     static <T> Publisher<T> fromItems(T... items) {
         requireNonNull(items, "The items array cannot be null");
-        return fromIterable(Arrays.asList(items));
+        return new ArrayPublisher<>(items);
     }
 
     /**
@@ -46,6 +56,8 @@ public interface ZeroPublisher {
      * Note that this assumes an in-memory, non-blocking {@link java.util.Iterator}.
      * Do not try to force an iterator as a way to bridge an API with {@link Publisher} if it is
      * does not behave like an in-memory data structure.
+     * <p>
+     * {@link java.util.RandomAccess} lists are read by index rather than with an iterator.
      *
      * @param iterable the iterable object, cannot be {@code null}
      * @param <T> the items type
@@ -53,6 +65,9 @@ public interface ZeroPublisher {
      */
     static <T> Publisher<T> fromIterable(Iterable<T> iterable) {
         requireNonNull(iterable, "The iterable cannot be null");
+        if (iterable instanceof List && iterable instanceof RandomAccess) {
+            return new RandomAccessListPublisher<>((List<T>) iterable);
+        }
         return new IterablePublisher<>(iterable);
     }
 
@@ -62,6 +77,8 @@ public interface ZeroPublisher {
      * Note that this assumes an in-memory, non-blocking data structure, just like {@link #fromIterable(Iterable)}.
      * Also note that a {@link java.util.stream.Stream} can only be traversed once, hence the use of a supplier because
      * multiple subscriptions would fail.
+     * <p>
+     * The stream is closed when the subscription completes, fails or is cancelled.
      *
      * @param supplier the stream supplier, cannot be {@code null}
      * @param <T> the items type
@@ -72,6 +89,135 @@ public interface ZeroPublisher {
         return new StreamPublisher<>(supplier);
     }
 
+    /**
+     * Create a {@link Publisher} from a {@link java.util.stream.Stream} whose items are computed in parallel, yet emitted
+     * in the stream order.
+     * <p>
+     * The stream {@link java.util.Spliterator} is split into partitions that are traversed by tasks submitted to an
+     * executor, so that costly intermediate stream operations can use several cores.
+     * Up to {@code parallelism} partitions are traversed ahead of the items being emitted, and their items are buffered
+     * until then.
+     * Partitions are only traversed once items have been requested.
+     * <p>
+     * Stateful intermediate operations such as {@link Stream#sorted()}, {@link Stream#distinct()} or
+     * {@link Stream#limit(long)} are barriers that the stream implementation evaluates by itself when the first partition
+     * is split: the operations up to the last barrier run on the common {@link java.util.concurrent.ForkJoinPool} (or on
+     * the pool of the requesting thread if it is a fork-join worker) and not on {@code executor}, while the requesting
+     * thread waits.
+     * Only the stateless operations after the last barrier are traversed by {@code executor}.
+     * <p>
+     * The stream is closed when the subscription completes, fails or is cancelled.
+     *
+     * @param supplier the stream supplier, cannot be {@code null}
+     * @param parallelism the maximum number of partitions being traversed concurrently, must be strictly positive
+     * @param executor the executor to traverse partitions, typically a {@link java.util.concurrent.ForkJoinPool}, cannot
+     *        be {@code null}
+     * @param <T> the items type
+     * @return a new {@link Publisher}
+     */
+    static <T> Publisher<T> fromStreamParallel(Supplier<Stream<T>> supplier, int parallelism, Executor executor) {
+        requireNonNull(supplier, "The supplier cannot be null");
+        requireNonNull(executor, "The executor cannot be null");
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("The parallelism must be strictly positive");
+        }
+        return new ParallelStreamPublisher<>(supplier, parallelism, executor);
+    }
+
+    /**
+     * Create a {@link Publisher} from an array of {@code int} values.
+     * <p>
+     * Values are boxed as they are being emitted, and small values are taken from the {@link Integer#valueOf(int)}
+     * cache rather than being allocated.
+     *
+     * @param values the values, cannot be {@code null}
+     * @return a new {@link Publisher}
+     */
+    static Publisher<Integer> fromInts(int... values) {
+        requireNonNull(values, "The values array cannot be null");
+        return new IntArrayPublisher(values);
+    }
+
+    /**
+     * Create a {@link Publisher} from an array of {@code long} values.
+     * <p>
+     * Values are boxed as they are being emitted, and small values are taken from the {@link Long#valueOf(long)}
+     * cache rather than being allocated.
+     *
+     * @param values the values, cannot be {@code null}
+     * @return a new {@link Publisher}
+     */
+    static Publisher<Long> fromLongs(long... values) {
+        requireNonNull(values, "The values array cannot be null");
+        return new LongArrayPublisher(values);
+    }
+
+    /**
+     * Create a {@link Publisher} from an array of {@code double} values.
+     * <p>
+     * Values are boxed as they are being emitted.
+     *
+     * @param values the values, cannot be {@code null}
+     * @return a new {@link Publisher}
+     */
+    static Publisher<Double> fromDoubles(double... values) {
+        requireNonNull(values, "The values array cannot be null");
+        return new DoubleArrayPublisher(values);
+    }
+
+    /**
+     * Create a {@link Publisher} of a range of {@code int} values.
+     * <p>
+     * Values are boxed as they are being emitted, and small values are taken from the {@link Integer#valueOf(int)}
+     * cache rather than being allocated.
+     *
+     * @param startInclusive the first value
+     * @param endExclusive the upper bound of the range, must be greater than or equal to {@code startInclusive}
+     * @return a new {@link Publisher}
+     */
+    static Publisher<Integer> range(int startInclusive, int endExclusive) {
+        if (endExclusive < startInclusive) {
+            throw new IllegalArgumentException("The range end must be greater than or equal to the range start");
+        }
+        return new IntRangePublisher(startInclusive, endExclusive);
+    }
+
+    /**
+     * Create a {@link Publisher} of a range of {@code long} values.
+     * <p>
+     * Values are boxed as they are being emitted, and small values are taken from the {@link Long#valueOf(long)}
+     * cache rather than being allocated.
+     *
+     * @param startInclusive the first value
+     * @param endExclusive the upper bound of the range, must be greater than or equal to {@code startInclusive}, and
+     *        the range cannot have more than {@link Long#MAX_VALUE} values
+     * @return a new {@link Publisher}
+     */
+    static Publisher<Long> rangeLong(long startInclusive, long endExclusive) {
+        if (endExclusive < startInclusive) {
+            throw new IllegalArgumentException("The range end must be greater than or equal to the range start");
+        }
+        if (endExclusive - startInclusive < 0L) {
+            throw new IllegalArgumentException("The range cannot have more than Long.MAX_VALUE values");
+        }
+        return new LongRangePublisher(startInclusive, endExclusive);
+    }
+
+    /**
+     * Create a {@link Publisher} from a {@link java.util.stream.IntStream}.
+     * <p>
+     * This is similar to {@link #fromStream(Supplier)}, except that the values are only boxed as they are being emitted
+     * rather than through a {@link java.util.stream.IntStream#boxed()} stage.
+     * The stream is closed when the subscription completes, fails or is cancelled.
+     *
+     * @param supplier the stream supplier, cannot be {@code null}
+     * @return a new {@link Publisher}
+     */
+    static Publisher<Integer> fromIntStream(Supplier<IntStream> supplier) {
+        requireNonNull(supplier, "The supplier cannot be null");
+        return new IntStreamPublisher(supplier);
+    }
+
     /**
      * Create a {@link Publisher} from a generator over some state.
      * <p>
@@ -104,10 +250,51 @@ public interface ZeroPublisher {
         return new CompletionStagePublisher<>(completionStageSupplier);
     }
 
+    /**
+     * Create a {@link Publisher} from a {@link CompletionStage} that is memoized across subscriptions.
+     * <p>
+     * The supplier is called by the first subscription, and the resulting completion stage is shared by the next
+     * subscriptions.
+     * Failed completion stages are not cached: the next subscription calls the supplier again.
+     * Cancelling a subscription does not cancel the shared completion stage.
+     *
+     * @param completionStageSupplier the completion stage supplier, cannot be {@code null}, cannot yield {@code null}
+     * @param <T> the item type
+     * @return a new {@link Publisher}
+     */
+    static <T> Publisher<T> fromCompletionStageCached(Supplier<CompletionStage<T>> completionStageSupplier) {
+        requireNonNull(completionStageSupplier, "The CompletionStage supplier cannot be null");
+        return new CachedCompletionStagePublisher<>(completionStageSupplier, CachedCompletionStagePublisher.NO_EXPIRY);
+    }
+
+    /**
+     * Create a {@link Publisher} from a {@link CompletionStage} that is memoized across subscriptions for a limited
+     * time.
+     * <p>
+     * The supplier is called by the first subscription, and the resulting completion stage is shared by the next
+     * subscriptions until {@code ttl} has elapsed since the supplier was called.
+     * Failed completion stages are not cached: the next subscription calls the supplier again.
+     * Cancelling a subscription does not cancel the shared completion stage.
+     *
+     * @param completionStageSupplier the completion stage supplier, cannot be {@code null}, cannot yield {@code null}
+     * @param ttl the duration for which a completion stage is memoized, cannot be {@code null}, must be strictly positive
+     * @param <T> the item type
+     * @return a new {@link Publisher}
+     */
+    static <T> Publisher<T> fromCompletionStageCached(Supplier<CompletionStage<T>> completionStageSupplier, Duration ttl) {
+        requireNonNull(completionStageSupplier, "The CompletionStage supplier cannot be null");
+        requireNonNull(ttl, "The time-to-live cannot be null");
+        if (ttl.isZero() || ttl.isNegative()) {
+            throw new IllegalArgumentException("The time-to-live must be strictly positive: " + ttl);
+        }
+        return new CachedCompletionStagePublisher<>(completionStageSupplier, Helper.toNanos(ttl));
+    }
+
     /**
      * Create a {@link CompletionStage} from a {@link Publisher}.
      * <p>
      * The {@link Publisher} is requested exactly 1 element and the subscription is cancelled after it has been received.
+     * The subscription is also cancelled when the returned {@link CompletionStage} is cancelled or completed before.
      *
      * @param publisher the publisher, cannot be {@code null}
      * @param <T> the item type
@@ -120,6 +307,111 @@ public interface ZeroPublisher {
         return future;
     }
 
+    /**
+     * Create a {@link CompletionStage} from a {@link Publisher}, failing with a
+     * {@link java.util.concurrent.TimeoutException} if no element or terminal signal has been received in time.
+     * <p>
+     * The {@link Publisher} is requested exactly 1 element and the subscription is cancelled after it has been received.
+     * The subscription is also cancelled when the timeout expires, or when the returned {@link CompletionStage} is
+     * cancelled or completed before.
+     *
+     * @param publisher the publisher, cannot be {@code null}
+     * @param timeout the timeout, cannot be {@code null}, must be strictly positive
+     * @param <T> the item type
+     * @return a new {@link CompletionStage}
+     */
+    static <T> CompletionStage<Optional<T>> toCompletionStage(Publisher<T> publisher, Duration timeout) {
+        requireNonNull(publisher, "The publisher cannot be null");
+        requireNonNull(timeout, "The timeout cannot be null");
+        if (timeout.isZero() || timeout.isNegative()) {
+            throw new IllegalArgumentException("The timeout must be strictly positive: " + timeout);
+        }
+        CompletableFuture<Optional<T>> future = new CompletableFuture<>();
+        future.orTimeout(Helper.toNanos(timeout), TimeUnit.NANOSECONDS);
+        publisher.subscribe(new PublisherToCompletionStageSubscriber<>(future));
+        return future;
+    }
+
+    // ---- Combining publishers ---- //
+
+    /**
+     * Create a {@link Publisher} that merges the items of several publishers as they arrive.
+     * <p>
+     * Each publisher has a bounded queue of {@code prefetch} items, and the downstream demand is spread fairly across
+     * publishers.
+     * The resulting publisher fails as soon as one of the publishers fails.
+     *
+     * @param publishers the publishers to merge, cannot be {@code null}
+     * @param maxConcurrency the maximum number of publishers being subscribed at the same time, must be strictly positive
+     * @param prefetch the number of items to prefetch from each publisher, must be in {@code [1, 65536]}
+     * @param <T> the items type
+     * @return a new {@link Publisher}
+     * @see Merge
+     */
+    static <T> Publisher<T> merge(List<Publisher<T>> publishers, int maxConcurrency, int prefetch) {
+        return new Merge<>(publishers, maxConcurrency, prefetch);
+    }
+
+    /**
+     * Create a {@link Publisher} that concatenates the items of several publishers, subscribing to each of them once the
+     * previous one has completed.
+     * <p>
+     * The outstanding demand is carried from one publisher to the next one.
+     * The resulting publisher fails as soon as one of the publishers fails.
+     *
+     * @param publishers the publishers to concatenate, cannot be {@code null}
+     * @param <T> the items type
+     * @return a new {@link Publisher}
+     * @see Concat
+     */
+    @SafeVarargs
+    static <T> Publisher<T> concat(Publisher<T>... publishers) {
+        requireNonNull(publishers, "The publishers cannot be null");
+        return new Concat<>(Arrays.asList(publishers));
+    }
+
+    // ---- Sharing publishers ---- //
+
+    /**
+     * Create a hot {@link Publisher} that shares a single subscription to a publisher between all of its subscribers.
+     * <p>
+     * The publisher is subscribed to when the first subscriber arrives, and its items are written once into a ring
+     * buffer that subscribers read at their own pace.
+     * The slowest subscriber gates the publisher, and subscribers only receive the items emitted after they have
+     * subscribed.
+     *
+     * @param publisher the publisher to share, cannot be {@code null}
+     * @param bufferSize the number of items a subscriber may lag behind the fastest one, must be strictly positive
+     * @param <T> the items type
+     * @return a new {@link Publisher}
+     * @see Multicast
+     */
+    static <T> Publisher<T> multicast(Publisher<T> publisher, int bufferSize) {
+        return new Multicast<>(publisher, bufferSize);
+    }
+
+    /**
+     * Create a {@link Publisher} that subscribes once to a publisher, caches its items, and replays them to each
+     * subscriber before the live items.
+     * <p>
+     * The publisher is subscribed to when the first subscriber arrives.
+     * At most {@code maxItems} items are cached, and items are evicted once they are older than {@code ttl}.
+     * The terminal signal of the publisher is cached too.
+     * <p>
+     * Items are only requested from the publisher as far as every subscriber has requested, so the slowest subscriber
+     * sets the pace.
+     *
+     * @param publisher the publisher to cache, cannot be {@code null}
+     * @param maxItems the maximum number of cached items, must be strictly positive
+     * @param ttl the time-to-live of cached items, cannot be {@code null}, must be strictly positive
+     * @param <T> the items type
+     * @return a new {@link Publisher}
+     * @see Replay
+     */
+    static <T> Publisher<T> replay(Publisher<T> publisher, int maxItems, Duration ttl) {
+        return new Replay<>(publisher, maxItems, ttl);
+    }
+
     // ---- Special cases ---- //
 
     /**
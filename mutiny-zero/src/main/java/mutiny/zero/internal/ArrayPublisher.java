@@ -0,0 +1,49 @@
+package mutiny.zero.internal;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.concurrent.Flow.Publisher;
+import java.util.concurrent.Flow.Subscriber;
+
+public class ArrayPublisher<T> implements Publisher<T> {
+
+    private final T[] array;
+
+    public ArrayPublisher(T[] array) {
+        this.array = array;
+    }
+
+    int size() {
+        return array.length;
+    }
+
+    T get(int index) {
+        return array[index];
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super T> subscriber) {
+        requireNonNull(subscriber, "The subscriber cannot be null");
+        if (array.length == 0) {
+            subscriber.onSubscribe(new AlreadyCompletedSubscription());
+            subscriber.onComplete();
+        } else {
+            subscriber.onSubscribe(new ArraySubscription<>(array, subscriber));
+        }
+    }
+
+    private static class ArraySubscription<T> extends IndexedSubscription<T> {
+
+        private final T[] array;
+
+        ArraySubscription(T[] array, Subscriber<? super T> subscriber) {
+            super(subscriber, array.length);
+            this.array = array;
+        }
+
+        @Override
+        T item(long index) {
+            return array[(int) index];
+        }
+    }
+}
@@ -1,29 +1,25 @@
 package mutiny.zero.internal;
 
-import java.util.Queue;
 import java.util.concurrent.Flow.Subscriber;
-import java.util.concurrent.LinkedBlockingDeque;
 
-public class BufferingTube<T> extends BufferingTubeBase<T> {
+public class BufferingTube<T> extends TubeBase<T> {
 
-    private final LinkedBlockingDeque<T> overflowQueue;
+    private final int bufferSize;
 
-    public BufferingTube(Subscriber<? super T> subscriber, int bufferSize) {
-        super(subscriber, bufferSize);
-        overflowQueue = new LinkedBlockingDeque<>(bufferSize);
+    public BufferingTube(Subscriber<? super T> subscriber, int bufferSize, boolean singleProducer) {
+        super(subscriber, singleProducer);
+        this.bufferSize = bufferSize;
     }
 
     @Override
-    Queue<T> overflowQueue() {
-        return overflowQueue;
+    protected void handleItem(T item) {
+        dispatch(item);
     }
 
     @Override
-    protected void handleItem(T item) {
-        if (outstandingRequests() > 0L) {
-            dispatchQueue.offer(item);
-            drainLoop();
-        } else if (!overflowQueue.offer(item)) {
+    protected void enqueue(T item) {
+        // Items covered by the outstanding demand do not count against the buffer size
+        if (!tryEnqueue(item, bufferSize)) {
             fail(new IllegalStateException(
                     "The following item cannot be propagated because there is no demand and the overflow buffer is full: "
                             + item));
@@ -0,0 +1,95 @@
+package mutiny.zero.internal;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow.Publisher;
+import java.util.concurrent.Flow.Subscriber;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+public class CachedCompletionStagePublisher<T> implements Publisher<T> {
+
+    public static final long NO_EXPIRY = -1L;
+
+    private final Supplier<CompletionStage<T>> completionStageSupplier;
+    private final long ttlNanos;
+    private final AtomicReference<Entry<T>> cache = new AtomicReference<>();
+
+    public CachedCompletionStagePublisher(Supplier<CompletionStage<T>> completionStageSupplier, long ttlNanos) {
+        this.completionStageSupplier = completionStageSupplier;
+        this.ttlNanos = ttlNanos;
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super T> subscriber) {
+        requireNonNull(subscriber, "The subscriber cannot be null");
+        // Cancelling a subscription must not cancel the stage shared with other subscribers
+        CompletionStagePublisher.subscribe(subscriber, completionStage(), false);
+    }
+
+    private CompletionStage<T> completionStage() {
+        while (true) {
+            Entry<T> current = cache.get();
+            if (current != null && isValid(current)) {
+                return current.future;
+            }
+            // Only the subscription that installs the placeholder calls the supplier, the others share the placeholder
+            Entry<T> placeholder = new Entry<>(new CompletableFuture<>(), System.nanoTime());
+            if (cache.compareAndSet(current, placeholder)) {
+                return load(placeholder);
+            }
+        }
+    }
+
+    private CompletionStage<T> load(Entry<T> entry) {
+        CompletableFuture<T> future = entry.future;
+        CompletionStage<T> cs;
+        try {
+            cs = completionStageSupplier.get();
+        } catch (Throwable err) {
+            cache.compareAndSet(entry, null);
+            future.completeExceptionally(err);
+            throw err;
+        }
+        if (cs == null) {
+            // Not cached, the next subscription calls the supplier again
+            cache.compareAndSet(entry, null);
+            future.completeExceptionally(new NullPointerException("The completion stage is null"));
+            return null;
+        }
+        cs.whenComplete((value, err) -> {
+            // Failures are not cached, they are evicted before the subscriptions sharing the entry are notified
+            if (err != null || value == null) {
+                cache.compareAndSet(entry, null);
+            }
+            if (err != null) {
+                future.completeExceptionally(err);
+            } else {
+                future.complete(value);
+            }
+        });
+        return future;
+    }
+
+    private boolean isValid(Entry<T> entry) {
+        CompletableFuture<T> future = entry.future;
+        // Failures are not cached
+        if (future.isCompletedExceptionally() || (future.isDone() && future.getNow(null) == null)) {
+            return false;
+        }
+        return ttlNanos == NO_EXPIRY || System.nanoTime() - entry.timestamp < ttlNanos;
+    }
+
+    private static class Entry<T> {
+
+        final CompletableFuture<T> future;
+        final long timestamp;
+
+        Entry(CompletableFuture<T> future, long timestamp) {
+            this.future = future;
+            this.timestamp = timestamp;
+        }
+    }
+}
@@ -3,8 +3,8 @@ package mutiny.zero.internal;
 import static java.util.Objects.requireNonNull;
 
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
-import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Flow;
 import java.util.concurrent.Flow.Publisher;
 import java.util.concurrent.Flow.Subscriber;
@@ -19,45 +19,73 @@ public class CompletionStagePublisher<T> implements Publisher<T> {
         this.completionStageSupplier = completionStageSupplier;
     }
 
+    Supplier<CompletionStage<T>> completionStageSupplier() {
+        return completionStageSupplier;
+    }
+
     @Override
     public void subscribe(Subscriber<? super T> subscriber) {
         requireNonNull(subscriber, "The subscriber cannot be null");
-        CompletionStage<T> cs = completionStageSupplier.get();
+        subscribe(subscriber, completionStageSupplier.get(), true);
+    }
+
+    static <T> void subscribe(Subscriber<? super T> subscriber, CompletionStage<T> cs, boolean cancelOnCancellation) {
         if (cs == null) {
             subscriber.onSubscribe(new AlreadyCompletedSubscription());
             subscriber.onError(new NullPointerException("The completion stage is null"));
             return;
         }
-        CompletableFuture<T> completableFuture = cs.toCompletableFuture();
-        if (completableFuture.isDone()) {
+        CompletableFuture<T> completableFuture = toCompletableFuture(cs);
+        if (completableFuture.isDone()
+                && (completableFuture.isCompletedExceptionally() || completableFuture.getNow(null) == null)) {
+            // Failures do not need to be requested, the callback runs synchronously
             subscriber.onSubscribe(new AlreadyCompletedSubscription());
-            try {
-                T value = completableFuture.get();
-                if (value == null) {
-                    subscriber.onError(new NullPointerException("The CompletionStage produced a null value"));
+            completableFuture.whenComplete((value, err) -> subscriber.onError(
+                    (err != null) ? unwrap(err) : new NullPointerException("The CompletionStage produced a null value")));
+            return;
+        }
+        // Values are only signalled once requested, even when the stage has already completed
+        subscriber.onSubscribe(new CompletionStageSubscription<>(subscriber, completableFuture, cancelOnCancellation));
+    }
+
+    // Some stages do not support toCompletableFuture(), cancelling the resulting future does not cancel them
+    private static <T> CompletableFuture<T> toCompletableFuture(CompletionStage<T> cs) {
+        try {
+            return cs.toCompletableFuture();
+        } catch (UnsupportedOperationException unsupported) {
+            CompletableFuture<T> future = new CompletableFuture<>();
+            cs.whenComplete((value, err) -> {
+                if (err != null) {
+                    future.completeExceptionally(err);
                 } else {
-                    subscriber.onNext(value);
-                    subscriber.onComplete();
+                    future.complete(value);
                 }
-            } catch (InterruptedException e) {
-                subscriber.onError(e);
-            } catch (ExecutionException e) {
-                subscriber.onError(e.getCause());
-            }
-        } else {
-            subscriber.onSubscribe(new CompletionStageSubscription(subscriber, completableFuture));
+            });
+            return future;
         }
     }
 
-    private class CompletionStageSubscription implements Flow.Subscription {
+    private static Throwable unwrap(Throwable err) {
+        if (err instanceof CompletionException && err.getCause() != null) {
+            return err.getCause();
+        }
+        return err;
+    }
+
+    private static class CompletionStageSubscription<T> implements Flow.Subscription {
 
         private final Subscriber<? super T> subscriber;
         private final CompletableFuture<T> completableFuture;
+        private final boolean cancelOnCancellation;
         private final AtomicBoolean cancelled = new AtomicBoolean();
+        // A single callback is registered, whatever the number of requests
+        private final AtomicBoolean requested = new AtomicBoolean();
 
-        private CompletionStageSubscription(Subscriber<? super T> subscriber, CompletableFuture<T> completableFuture) {
+        private CompletionStageSubscription(Subscriber<? super T> subscriber, CompletableFuture<T> completableFuture,
+                boolean cancelOnCancellation) {
             this.subscriber = subscriber;
             this.completableFuture = completableFuture;
+            this.cancelOnCancellation = cancelOnCancellation;
         }
 
         @Override
@@ -66,13 +94,15 @@ public class CompletionStagePublisher<T> implements Publisher<T> {
                 return;
             }
             if (n <= 0L) {
-                cancel();
-                subscriber.onError(Helper.negativeRequest(n));
-            } else {
+                if (cancelled.compareAndSet(false, true)) {
+                    cancelFuture();
+                    subscriber.onError(Helper.negativeRequest(n));
+                }
+            } else if (requested.compareAndSet(false, true)) {
                 completableFuture.whenComplete((value, err) -> {
                     if (cancelled.compareAndSet(false, true)) {
                         if (err != null) {
-                            subscriber.onError(err);
+                            subscriber.onError(unwrap(err));
                         } else if (value == null) {
                             subscriber.onError(new NullPointerException("The CompletionStage produced a null value"));
                         } else {
@@ -86,8 +116,15 @@ public class CompletionStagePublisher<T> implements Publisher<T> {
 
         @Override
         public void cancel() {
-            cancelled.set(false);
-            completableFuture.toCompletableFuture().cancel(false);
+            if (cancelled.compareAndSet(false, true)) {
+                cancelFuture();
+            }
+        }
+
+        private void cancelFuture() {
+            if (cancelOnCancellation) {
+                completableFuture.cancel(false);
+            }
         }
     }
 }
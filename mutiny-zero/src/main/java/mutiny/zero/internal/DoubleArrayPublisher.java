@@ -0,0 +1,41 @@
+package mutiny.zero.internal;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.concurrent.Flow.Publisher;
+import java.util.concurrent.Flow.Subscriber;
+
+public class DoubleArrayPublisher implements Publisher<Double> {
+
+    private final double[] array;
+
+    public DoubleArrayPublisher(double[] array) {
+        this.array = array;
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super Double> subscriber) {
+        requireNonNull(subscriber, "The subscriber cannot be null");
+        if (array.length == 0) {
+            subscriber.onSubscribe(new AlreadyCompletedSubscription());
+            subscriber.onComplete();
+        } else {
+            subscriber.onSubscribe(new DoubleArraySubscription(array, subscriber));
+        }
+    }
+
+    private static class DoubleArraySubscription extends IndexedSubscription<Double> {
+
+        private final double[] array;
+
+        DoubleArraySubscription(double[] array, Subscriber<? super Double> subscriber) {
+            super(subscriber, array.length);
+            this.array = array;
+        }
+
+        @Override
+        Double item(long index) {
+            return Double.valueOf(array[(int) index]);
+        }
+    }
+}
@@ -4,15 +4,19 @@ import java.util.concurrent.Flow;
 
 public class DroppingTube<T> extends TubeBase<T> {
 
-    protected DroppingTube(Flow.Subscriber<? super T> subscriber) {
-        super(subscriber);
+    protected DroppingTube(Flow.Subscriber<? super T> subscriber, boolean singleProducer) {
+        super(subscriber, singleProducer);
     }
 
     @Override
     protected void handleItem(T item) {
-        if (outstandingRequests() > 0L) {
-            dispatchQueue.offer(item);
-            drainLoop();
+        if (claimDemand()) {
+            dispatchClaimed(item);
         }
     }
+
+    @Override
+    protected void overflow(T item) {
+        // Drop the item
+    }
 }
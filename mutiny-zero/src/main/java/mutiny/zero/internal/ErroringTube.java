@@ -4,17 +4,21 @@ import java.util.concurrent.Flow.Subscriber;
 
 public class ErroringTube<T> extends TubeBase<T> {
 
-    protected ErroringTube(Subscriber<? super T> subscriber) {
-        super(subscriber);
+    protected ErroringTube(Subscriber<? super T> subscriber, boolean singleProducer) {
+        super(subscriber, singleProducer);
     }
 
     @Override
     protected void handleItem(T item) {
-        if (outstandingRequests() > 0L) {
-            dispatchQueue.offer(item);
-            drainLoop();
+        if (claimDemand()) {
+            dispatchClaimed(item);
         } else {
-            fail(new IllegalStateException("The following item cannot be propagated because there is no demand: " + item));
+            overflow(item);
         }
     }
+
+    @Override
+    protected void overflow(T item) {
+        fail(new IllegalStateException("The following item cannot be propagated because there is no demand: " + item));
+    }
 }
@@ -1,5 +1,6 @@
 package mutiny.zero.internal;
 
+import java.time.Duration;
 import java.util.concurrent.atomic.AtomicLong;
 
 public class Helper {
@@ -23,4 +24,12 @@ public class Helper {
             }
         }
     }
+
+    public static long toNanos(Duration duration) {
+        try {
+            return duration.toNanos();
+        } catch (ArithmeticException overflow) {
+            return Long.MAX_VALUE;
+        }
+    }
 }
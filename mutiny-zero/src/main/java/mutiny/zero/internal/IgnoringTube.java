@@ -4,13 +4,17 @@ import java.util.concurrent.Flow;
 
 public class IgnoringTube<T> extends TubeBase<T> {
 
-    public IgnoringTube(Flow.Subscriber<? super T> subscriber) {
-        super(subscriber);
+    public IgnoringTube(Flow.Subscriber<? super T> subscriber, boolean singleProducer) {
+        super(subscriber, singleProducer);
     }
 
     @Override
     protected void handleItem(T item) {
-        dispatchQueue.offer(item);
-        drainLoop();
+        dispatch(item);
+    }
+
+    @Override
+    protected boolean ignoresDemand() {
+        return true;
     }
 }
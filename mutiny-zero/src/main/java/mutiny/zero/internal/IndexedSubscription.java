@@ -0,0 +1,130 @@
+package mutiny.zero.internal;
+
+import java.util.concurrent.Flow.Subscriber;
+import java.util.concurrent.Flow.Subscription;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A subscription over an indexed source of a known size, such as an array, a random-access list or a range.
+ * <p>
+ * Items are read with a cursor rather than an {@link java.util.Iterator}, and the cursor is only updated once per batch
+ * of requested items.
+ * Sources of primitive values box them in {@link #item(long)}, so each value is only boxed when it is emitted.
+ *
+ * @param <T> the items type
+ */
+abstract class IndexedSubscription<T> implements Subscription {
+
+    private final Subscriber<? super T> subscriber;
+    private final long size;
+
+    private long index;
+    private volatile boolean cancelled = false;
+    private final AtomicLong requested = new AtomicLong();
+
+    IndexedSubscription(Subscriber<? super T> subscriber, long size) {
+        this.subscriber = subscriber;
+        this.size = size;
+    }
+
+    abstract T item(long index);
+
+    @Override
+    public void request(long n) {
+        if (n <= 0L) {
+            cancel();
+            subscriber.onError(Helper.negativeRequest(n));
+            return;
+        }
+        if (Helper.add(requested, n) == 0) {
+            if (n == Long.MAX_VALUE) {
+                deliverAll();
+            } else {
+                deliver(n);
+            }
+        }
+    }
+
+    private void deliver(long n) {
+        Subscriber<? super T> subscriber = this.subscriber;
+        long end = size;
+        long i = index;
+        long emitted = 0L;
+        for (;;) {
+
+            while (emitted != n && i != end) {
+                if (cancelled) {
+                    return;
+                }
+                T next = next(i);
+                if (next == null) {
+                    return;
+                }
+                subscriber.onNext(next);
+                i++;
+                emitted++;
+            }
+
+            if (i == end) {
+                complete();
+                return;
+            }
+
+            n = requested.get();
+            if (n == emitted) {
+                index = i;
+                n = requested.addAndGet(-emitted);
+                if (n == 0L) {
+                    return;
+                }
+                emitted = 0L;
+            }
+        }
+    }
+
+    private void deliverAll() {
+        Subscriber<? super T> subscriber = this.subscriber;
+        long end = size;
+        for (long i = index; i != end; i++) {
+            if (cancelled) {
+                return;
+            }
+            T next = next(i);
+            if (next == null) {
+                return;
+            }
+            subscriber.onNext(next);
+        }
+        complete();
+    }
+
+    // Signals an error and returns null when the item cannot be read
+    private T next(long i) {
+        T next;
+        try {
+            next = item(i);
+        } catch (Throwable err) {
+            cancelled = true;
+            subscriber.onError(err);
+            return null;
+        }
+        if (next == null) {
+            cancelled = true;
+            subscriber.onError(new NullPointerException("The source has a null value at index " + i));
+        }
+        return next;
+    }
+
+    private void complete() {
+        if (cancelled) {
+            return;
+        }
+        cancelled = true;
+        subscriber.onComplete();
+    }
+
+    @Override
+    public void cancel() {
+        cancelled = true;
+    }
+}
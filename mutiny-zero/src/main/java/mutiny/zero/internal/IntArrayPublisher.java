@@ -0,0 +1,41 @@
+package mutiny.zero.internal;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.concurrent.Flow.Publisher;
+import java.util.concurrent.Flow.Subscriber;
+
+public class IntArrayPublisher implements Publisher<Integer> {
+
+    private final int[] array;
+
+    public IntArrayPublisher(int[] array) {
+        this.array = array;
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super Integer> subscriber) {
+        requireNonNull(subscriber, "The subscriber cannot be null");
+        if (array.length == 0) {
+            subscriber.onSubscribe(new AlreadyCompletedSubscription());
+            subscriber.onComplete();
+        } else {
+            subscriber.onSubscribe(new IntArraySubscription(array, subscriber));
+        }
+    }
+
+    private static class IntArraySubscription extends IndexedSubscription<Integer> {
+
+        private final int[] array;
+
+        IntArraySubscription(int[] array, Subscriber<? super Integer> subscriber) {
+            super(subscriber, array.length);
+            this.array = array;
+        }
+
+        @Override
+        Integer item(long index) {
+            return Integer.valueOf(array[(int) index]);
+        }
+    }
+}
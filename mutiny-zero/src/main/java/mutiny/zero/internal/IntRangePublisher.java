@@ -0,0 +1,43 @@
+package mutiny.zero.internal;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.concurrent.Flow.Publisher;
+import java.util.concurrent.Flow.Subscriber;
+
+public class IntRangePublisher implements Publisher<Integer> {
+
+    private final int start;
+    private final long count;
+
+    public IntRangePublisher(int startInclusive, int endExclusive) {
+        this.start = startInclusive;
+        this.count = (long) endExclusive - (long) startInclusive;
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super Integer> subscriber) {
+        requireNonNull(subscriber, "The subscriber cannot be null");
+        if (count == 0L) {
+            subscriber.onSubscribe(new AlreadyCompletedSubscription());
+            subscriber.onComplete();
+        } else {
+            subscriber.onSubscribe(new IntRangeSubscription(start, count, subscriber));
+        }
+    }
+
+    private static class IntRangeSubscription extends IndexedSubscription<Integer> {
+
+        private final int start;
+
+        IntRangeSubscription(int start, long count, Subscriber<? super Integer> subscriber) {
+            super(subscriber, count);
+            this.start = start;
+        }
+
+        @Override
+        Integer item(long index) {
+            return Integer.valueOf(start + (int) index);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package mutiny.zero.internal;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Spliterator;
+import java.util.concurrent.Flow;
+import java.util.concurrent.Flow.Publisher;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+public class IntStreamPublisher implements Publisher<Integer> {
+
+    private final Supplier<IntStream> supplier;
+
+    public IntStreamPublisher(Supplier<IntStream> supplier) {
+        this.supplier = supplier;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super Integer> subscriber) {
+        requireNonNull(subscriber, "The subscriber cannot be null");
+        IntStream stream = supplier.get();
+        if (stream == null) {
+            subscriber.onSubscribe(new AlreadyCompletedSubscription());
+            subscriber.onError(new NullPointerException("The supplied stream cannot be null"));
+        } else {
+            Spliterator<Integer> spliterator;
+            try {
+                spliterator = stream.spliterator();
+            } catch (Throwable err) {
+                subscriber.onSubscribe(new AlreadyCompletedSubscription());
+                subscriber.onError(err);
+                return;
+            }
+            if (spliterator.getExactSizeIfKnown() == 0L) {
+                stream.close();
+                subscriber.onSubscribe(new AlreadyCompletedSubscription());
+                subscriber.onComplete();
+            } else {
+                subscriber.onSubscribe(new SpliteratorSubscription<>(spliterator, stream, subscriber));
+            }
+        }
+    }
+}
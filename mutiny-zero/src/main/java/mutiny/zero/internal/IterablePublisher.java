@@ -2,6 +2,7 @@ package mutiny.zero.internal;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Iterator;
 import java.util.concurrent.Flow.Publisher;
 import java.util.concurrent.Flow.Subscriber;
 
@@ -16,11 +17,12 @@ public class IterablePublisher<T> implements Publisher<T> {
     @Override
     public void subscribe(Subscriber<? super T> subscriber) {
         requireNonNull(subscriber, "The subscriber cannot be null");
-        if (!iterable.iterator().hasNext()) {
+        Iterator<T> iterator = iterable.iterator();
+        if (!iterator.hasNext()) {
             subscriber.onSubscribe(new AlreadyCompletedSubscription());
             subscriber.onComplete();
         } else {
-            subscriber.onSubscribe(new IteratorSubscription<>(iterable.iterator(), subscriber));
+            subscriber.onSubscribe(new IteratorSubscription<>(iterator, subscriber));
         }
     }
 
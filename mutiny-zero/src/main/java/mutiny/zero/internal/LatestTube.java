@@ -1,31 +1,26 @@
 package mutiny.zero.internal;
 
-import java.util.Queue;
 import java.util.concurrent.Flow;
-import java.util.concurrent.LinkedBlockingDeque;
 
-public class LatestTube<T> extends BufferingTubeBase<T> {
+public class LatestTube<T> extends TubeBase<T> {
 
-    private final LinkedBlockingDeque<T> overflowQueue;
+    private final int bufferSize;
 
-    public LatestTube(Flow.Subscriber<? super T> subscriber, int bufferSize) {
-        super(subscriber, bufferSize);
-        overflowQueue = new LinkedBlockingDeque<>(bufferSize);
+    public LatestTube(Flow.Subscriber<? super T> subscriber, int bufferSize, boolean singleProducer) {
+        super(subscriber, singleProducer);
+        this.bufferSize = bufferSize;
     }
 
     @Override
-    Queue<T> overflowQueue() {
-        return overflowQueue;
+    protected void handleItem(T item) {
+        dispatch(item);
     }
 
     @Override
-    protected void handleItem(T item) {
-        if (outstandingRequests() > 0L) {
-            dispatchQueue.offer(item);
-            drainLoop();
-        } else if (!overflowQueue.offer(item)) {
-            overflowQueue.remove();
-            overflowQueue.offer(item);
+    protected void trimOverflow() {
+        // The outstanding demand has been served, so the oldest items have no demand and can be dropped
+        while (overflowCount() > bufferSize && dropOldest()) {
+            // Keep dropping
         }
     }
 }
@@ -0,0 +1,41 @@
+package mutiny.zero.internal;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.concurrent.Flow.Publisher;
+import java.util.concurrent.Flow.Subscriber;
+
+public class LongArrayPublisher implements Publisher<Long> {
+
+    private final long[] array;
+
+    public LongArrayPublisher(long[] array) {
+        this.array = array;
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super Long> subscriber) {
+        requireNonNull(subscriber, "The subscriber cannot be null");
+        if (array.length == 0) {
+            subscriber.onSubscribe(new AlreadyCompletedSubscription());
+            subscriber.onComplete();
+        } else {
+            subscriber.onSubscribe(new LongArraySubscription(array, subscriber));
+        }
+    }
+
+    private static class LongArraySubscription extends IndexedSubscription<Long> {
+
+        private final long[] array;
+
+        LongArraySubscription(long[] array, Subscriber<? super Long> subscriber) {
+            super(subscriber, array.length);
+            this.array = array;
+        }
+
+        @Override
+        Long item(long index) {
+            return Long.valueOf(array[(int) index]);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package mutiny.zero.internal;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.concurrent.Flow.Publisher;
+import java.util.concurrent.Flow.Subscriber;
+
+public class LongRangePublisher implements Publisher<Long> {
+
+    private final long start;
+    private final long count;
+
+    public LongRangePublisher(long startInclusive, long endExclusive) {
+        this.start = startInclusive;
+        this.count = endExclusive - startInclusive;
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super Long> subscriber) {
+        requireNonNull(subscriber, "The subscriber cannot be null");
+        if (count == 0L) {
+            subscriber.onSubscribe(new AlreadyCompletedSubscription());
+            subscriber.onComplete();
+        } else {
+            subscriber.onSubscribe(new LongRangeSubscription(start, count, subscriber));
+        }
+    }
+
+    private static class LongRangeSubscription extends IndexedSubscription<Long> {
+
+        private final long start;
+
+        LongRangeSubscription(long start, long count, Subscriber<? super Long> subscriber) {
+            super(subscriber, count);
+            this.start = start;
+        }
+
+        @Override
+        Long item(long index) {
+            return Long.valueOf(start + index);
+        }
+    }
+}
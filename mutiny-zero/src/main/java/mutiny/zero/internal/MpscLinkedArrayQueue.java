@@ -0,0 +1,133 @@
+package mutiny.zero.internal;
+
+import java.util.AbstractQueue;
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * An unbounded multiple-producers, single-consumer queue made of linked fixed-size array chunks.
+ * <p>
+ * Producers claim a slot with a single atomic increment and write to it without further synchronization, and a chunk is
+ * only allocated every {@link #CHUNK_SIZE} items.
+ * Only one thread at a time may call the consumer methods ({@link #poll()}, {@link #peek()} and {@link #clear()}).
+ * <p>
+ * Iterating is not supported.
+ *
+ * @param <T> the elements type
+ */
+public class MpscLinkedArrayQueue<T> extends AbstractQueue<T> {
+
+    static final int CHUNK_SIZE = 128;
+
+    private final PaddedAtomicLong producerIndex = new PaddedAtomicLong();
+    private final AtomicReference<Chunk> producerChunk;
+
+    private final PaddedAtomicLong consumerIndex = new PaddedAtomicLong();
+    private volatile Chunk consumerChunk;
+
+    public MpscLinkedArrayQueue() {
+        Chunk chunk = new Chunk(0L);
+        producerChunk = new AtomicReference<>(chunk);
+        consumerChunk = chunk;
+    }
+
+    // ---- Producers ---- //
+
+    @Override
+    public boolean offer(T item) {
+        if (item == null) {
+            throw new NullPointerException("The item cannot be null");
+        }
+        long index = producerIndex.getAndIncrement();
+        Chunk chunk = producerChunk.get();
+        if (chunk.base > index) {
+            // Another producer moved the hint ahead, but the consumer cannot have moved beyond this index
+            chunk = consumerChunk;
+        }
+        while (index >= chunk.base + CHUNK_SIZE) {
+            Chunk next = chunk.next.get();
+            if (next == null) {
+                next = new Chunk(chunk.base + CHUNK_SIZE);
+                if (!chunk.next.compareAndSet(null, next)) {
+                    next = chunk.next.get();
+                }
+            }
+            chunk = next;
+        }
+        if (producerChunk.get() != chunk) {
+            producerChunk.lazySet(chunk);
+        }
+        chunk.slots.lazySet((int) (index - chunk.base), item);
+        return true;
+    }
+
+    @Override
+    public int size() {
+        long size = producerIndex.get() - consumerIndex.get();
+        return (size > Integer.MAX_VALUE) ? Integer.MAX_VALUE : (int) size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return producerIndex.get() == consumerIndex.get();
+    }
+
+    // ---- Consumer ---- //
+
+    @Override
+    public T poll() {
+        return take(true);
+    }
+
+    @Override
+    public T peek() {
+        return take(false);
+    }
+
+    @SuppressWarnings("unchecked")
+    private T take(boolean remove) {
+        long index = consumerIndex.getPlain();
+        if (index == producerIndex.get()) {
+            return null;
+        }
+        Chunk chunk = consumerChunk;
+        int offset = (int) (index - chunk.base);
+        if (offset == CHUNK_SIZE) {
+            Chunk next;
+            while ((next = chunk.next.get()) == null) {
+                // The producer that claimed this index is appending the next chunk
+                Thread.onSpinWait();
+            }
+            chunk = next;
+            consumerChunk = next;
+            offset = 0;
+        }
+        Object item;
+        while ((item = chunk.slots.get(offset)) == null) {
+            // The slot has been claimed but the producer has not written to it yet
+            Thread.onSpinWait();
+        }
+        if (remove) {
+            chunk.slots.lazySet(offset, null);
+            consumerIndex.lazySet(index + 1L);
+        }
+        return (T) item;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        throw new UnsupportedOperationException("Iterating over this queue is not supported");
+    }
+
+    private static final class Chunk {
+
+        final long base;
+        final AtomicReferenceArray<Object> slots = new AtomicReferenceArray<>(CHUNK_SIZE);
+        final AtomicReference<Chunk> next = new AtomicReference<>();
+
+        Chunk(long base) {
+            this.base = base;
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package mutiny.zero.internal;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * An {@link AtomicLong} with trailing padding, so that counters written by different threads do not share a cache line.
+ */
+@SuppressWarnings({ "unused", "serial" })
+class PaddedAtomicLong extends AtomicLong {
+
+    private long p1, p2, p3, p4, p5, p6, p7;
+}
@@ -0,0 +1,260 @@
+package mutiny.zero.internal;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Spliterator;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow.Publisher;
+import java.util.concurrent.Flow.Subscriber;
+import java.util.concurrent.Flow.Subscription;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * A publisher that traverses the partitions of a stream {@link Spliterator} in parallel, and emits the items in source
+ * order.
+ * <p>
+ * The spliterator is lazily split into partitions of about {@link #PARTITION_SIZE} items, and up to
+ * {@code parallelism} partitions ahead of the one being emitted are traversed concurrently by the executor.
+ * Each partition is buffered until it is emitted, so the memory overhead is bounded by about
+ * {@code parallelism * PARTITION_SIZE} items.
+ *
+ * @param <T> the items type
+ */
+public class ParallelStreamPublisher<T> implements Publisher<T> {
+
+    static final int PARTITION_SIZE = 1024;
+
+    private final Supplier<Stream<T>> supplier;
+    private final int parallelism;
+    private final Executor executor;
+
+    public ParallelStreamPublisher(Supplier<Stream<T>> supplier, int parallelism, Executor executor) {
+        this.supplier = supplier;
+        this.parallelism = parallelism;
+        this.executor = executor;
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super T> subscriber) {
+        requireNonNull(subscriber, "The subscriber cannot be null");
+        Stream<T> stream = supplier.get();
+        if (stream == null) {
+            subscriber.onSubscribe(new AlreadyCompletedSubscription());
+            subscriber.onError(new NullPointerException("The supplied stream cannot be null"));
+            return;
+        }
+        Spliterator<T> spliterator;
+        try {
+            // The spliterator of a sequential pipeline does not split, but traversing any spliterator is sequential.
+            // Stateful stages are evaluated by the stream implementation itself (on the common pool) upon the first split.
+            spliterator = stream.parallel().spliterator();
+        } catch (Throwable err) {
+            subscriber.onSubscribe(new AlreadyCompletedSubscription());
+            subscriber.onError(err);
+            return;
+        }
+        subscriber.onSubscribe(new ParallelStreamSubscription<>(subscriber, stream, spliterator, parallelism, executor));
+    }
+
+    // Thrown from a partition traversal upon cancellation
+    private static final RuntimeException STOP = new RuntimeException("Cancelled", null, false, false) {
+    };
+
+    private static class ParallelStreamSubscription<T> implements Subscription {
+
+        private final Subscriber<? super T> subscriber;
+        private final Stream<T> stream;
+        private final int parallelism;
+        private final Executor executor;
+
+        // Only accessed by the drain loop owner
+        private final ArrayDeque<Spliterator<T>> unsplit = new ArrayDeque<>();
+        private final ArrayDeque<Partition<T>> inFlight = new ArrayDeque<>();
+
+        private volatile boolean cancelled;
+        private final AtomicInteger wip = new AtomicInteger();
+        private final AtomicLong requested = new AtomicLong();
+
+        ParallelStreamSubscription(Subscriber<? super T> subscriber, Stream<T> stream, Spliterator<T> spliterator,
+                int parallelism, Executor executor) {
+            this.subscriber = subscriber;
+            this.stream = stream;
+            this.parallelism = parallelism;
+            this.executor = executor;
+            unsplit.add(spliterator);
+        }
+
+        @Override
+        public void request(long n) {
+            if (cancelled) {
+                return;
+            }
+            if (n <= 0L) {
+                cancel();
+                subscriber.onError(Helper.negativeRequest(n));
+                return;
+            }
+            Helper.add(requested, n);
+            drainLoop();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            drainLoop();
+        }
+
+        void drainLoop() {
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+            int missed = 1;
+            while (missed != 0) {
+                if (cancelled) {
+                    terminate();
+                    return;
+                }
+                long pending = requested.get();
+                long emitted = 0L;
+
+                while (true) {
+                    if (cancelled) {
+                        terminate();
+                        return;
+                    }
+                    if (!fillWindow()) {
+                        return;
+                    }
+                    Partition<T> head = inFlight.peek();
+                    if (head == null) {
+                        terminate();
+                        subscriber.onComplete();
+                        return;
+                    }
+                    if (!head.done) {
+                        break;
+                    }
+                    if (head.failure != null) {
+                        terminate();
+                        subscriber.onError(head.failure);
+                        return;
+                    }
+                    if (head.index == head.items.size()) {
+                        inFlight.poll();
+                        continue;
+                    }
+                    if (emitted == pending) {
+                        break;
+                    }
+                    T item = head.items.get(head.index);
+                    head.items.set(head.index, null);
+                    head.index++;
+                    if (item == null) {
+                        terminate();
+                        subscriber.onError(new NullPointerException("The stream has a null value"));
+                        return;
+                    }
+                    subscriber.onNext(item);
+                    emitted++;
+                }
+
+                if (emitted > 0L && pending != Long.MAX_VALUE) {
+                    requested.addAndGet(-emitted);
+                }
+                missed = wip.addAndGet(-missed);
+            }
+        }
+
+        // Starts partitions until there are enough in flight, returns false if the subscription has been terminated
+        private boolean fillWindow() {
+            while (inFlight.size() < parallelism) {
+                Spliterator<T> next = nextPartition();
+                if (next == null) {
+                    return true;
+                }
+                Partition<T> partition = new Partition<>(this, next);
+                inFlight.offer(partition);
+                try {
+                    executor.execute(partition);
+                } catch (Throwable err) {
+                    terminate();
+                    subscriber.onError(err);
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        // Splits the leading spliterator until it is small enough, keeping the suffixes in order
+        private Spliterator<T> nextPartition() {
+            Spliterator<T> spliterator = unsplit.pollFirst();
+            if (spliterator == null) {
+                return null;
+            }
+            Spliterator<T> prefix;
+            while (spliterator.estimateSize() > PARTITION_SIZE && (prefix = spliterator.trySplit()) != null) {
+                unsplit.addFirst(spliterator);
+                spliterator = prefix;
+            }
+            return spliterator;
+        }
+
+        // The drain loop is never left after this, so later signals are ignored
+        private void terminate() {
+            cancelled = true;
+            inFlight.clear();
+            unsplit.clear();
+            try {
+                stream.close();
+            } catch (Throwable ignored) {
+                // There is no subscriber to report to at this point
+            }
+        }
+    }
+
+    private static class Partition<T> implements Runnable, Consumer<T> {
+
+        private final ParallelStreamSubscription<T> parent;
+        private final Spliterator<T> spliterator;
+
+        // Written by the traversing task, then only read by the drain loop owner once done is visible
+        private final ArrayList<T> items;
+        private int index;
+        private Throwable failure;
+        private volatile boolean done;
+
+        Partition(ParallelStreamSubscription<T> parent, Spliterator<T> spliterator) {
+            this.parent = parent;
+            this.spliterator = spliterator;
+            long estimate = spliterator.estimateSize();
+            this.items = new ArrayList<>((int) Math.min(estimate, PARTITION_SIZE));
+        }
+
+        @Override
+        public void run() {
+            try {
+                spliterator.forEachRemaining(this);
+            } catch (Throwable err) {
+                if (err != STOP) {
+                    failure = err;
+                }
+            }
+            done = true;
+            parent.drainLoop();
+        }
+
+        @Override
+        public void accept(T item) {
+            if (parent.cancelled) {
+                throw STOP;
+            }
+            items.add(item);
+        }
+    }
+}
@@ -10,16 +10,29 @@ public class PublisherToCompletionStageSubscriber<T> implements Subscriber<T> {
 
     private final CompletableFuture<Optional<T>> future;
     private final AtomicBoolean completed = new AtomicBoolean();
-    private Flow.Subscription subscription;
+    private volatile Flow.Subscription subscription;
 
     public PublisherToCompletionStageSubscriber(CompletableFuture<Optional<T>> future) {
         this.future = future;
+        // The future may be cancelled, time out or be completed by someone else: stop the publisher then
+        future.whenComplete((value, err) -> {
+            if (completed.compareAndSet(false, true)) {
+                Flow.Subscription current = subscription;
+                if (current != null) {
+                    current.cancel();
+                }
+            }
+        });
     }
 
     @Override
     public void onSubscribe(Flow.Subscription subscription) {
         this.subscription = subscription;
-        subscription.request(1L);
+        if (completed.get()) {
+            subscription.cancel();
+        } else {
+            subscription.request(1L);
+        }
     }
 
     @Override
@@ -0,0 +1,50 @@
+package mutiny.zero.internal;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.concurrent.Flow.Publisher;
+import java.util.concurrent.Flow.Subscriber;
+
+/**
+ * A publisher over a {@link java.util.RandomAccess} list, where reading by index is cheaper than iterating.
+ * <p>
+ * The list size is read when subscribing.
+ *
+ * @param <T> the items type
+ */
+public class RandomAccessListPublisher<T> implements Publisher<T> {
+
+    private final List<T> list;
+
+    public RandomAccessListPublisher(List<T> list) {
+        this.list = list;
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super T> subscriber) {
+        requireNonNull(subscriber, "The subscriber cannot be null");
+        int size = list.size();
+        if (size == 0) {
+            subscriber.onSubscribe(new AlreadyCompletedSubscription());
+            subscriber.onComplete();
+        } else {
+            subscriber.onSubscribe(new ListSubscription<>(list, size, subscriber));
+        }
+    }
+
+    private static class ListSubscription<T> extends IndexedSubscription<T> {
+
+        private final List<T> list;
+
+        ListSubscription(List<T> list, int size, Subscriber<? super T> subscriber) {
+            super(subscriber, size);
+            this.list = list;
+        }
+
+        @Override
+        T item(long index) {
+            return list.get((int) index);
+        }
+    }
+}
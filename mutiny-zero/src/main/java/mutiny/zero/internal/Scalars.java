@@ -0,0 +1,60 @@
+package mutiny.zero.internal;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow.Publisher;
+import java.util.function.Supplier;
+
+/**
+ * Helpers for operators that short-circuit publishers whose outcome is known without subscribing to them.
+ */
+public final class Scalars {
+
+    private Scalars() {
+        // Static helpers only
+    }
+
+    // Whether subscribing to the publisher would only signal completion
+    public static boolean isEmpty(Publisher<?> publisher) {
+        return publisher instanceof EmptyPublisher
+                || (publisher instanceof ArrayPublisher && ((ArrayPublisher<?>) publisher).size() == 0);
+    }
+
+    // The single item that subscribing to the publisher would emit before completing, or null when not known
+    @SuppressWarnings("unchecked")
+    public static <T> T singleItem(Publisher<T> publisher) {
+        if (publisher instanceof ArrayPublisher) {
+            ArrayPublisher<T> array = (ArrayPublisher<T>) publisher;
+            if (array.size() == 1) {
+                return array.get(0);
+            }
+        }
+        return null;
+    }
+
+    // The supplier of a completion stage publisher, or null for other publishers
+    @SuppressWarnings("unchecked")
+    public static <T> Supplier<CompletionStage<T>> completionStageSupplier(Publisher<T> publisher) {
+        if (publisher instanceof CompletionStagePublisher) {
+            return ((CompletionStagePublisher<T>) publisher).completionStageSupplier();
+        }
+        return null;
+    }
+
+    // The value of a successfully completed stage, or null when the stage has to be subscribed to
+    public static <T> T completedValue(CompletionStage<T> stage) {
+        if (stage == null) {
+            return null;
+        }
+        CompletableFuture<T> future;
+        try {
+            future = stage.toCompletableFuture();
+        } catch (UnsupportedOperationException unsupported) {
+            return null;
+        }
+        if (future.isDone() && !future.isCompletedExceptionally()) {
+            return future.getNow(null);
+        }
+        return null;
+    }
+}
@@ -0,0 +1,193 @@
+package mutiny.zero.internal;
+
+import java.util.Spliterator;
+import java.util.concurrent.Flow.Subscriber;
+import java.util.concurrent.Flow.Subscription;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.stream.BaseStream;
+
+/**
+ * A subscription that drives the {@link Spliterator} of a stream.
+ * <p>
+ * Bounded demand is served with {@link Spliterator#tryAdvance(Consumer)}, while unbounded demand is served with
+ * {@link Spliterator#forEachRemaining(Consumer)}, which is interrupted on cancellation.
+ * When the spliterator is {@link Spliterator#SIZED}, completion is signaled right after the last item rather than on
+ * the next request.
+ * <p>
+ * The stream is closed exactly once, on completion, failure or cancellation.
+ * <p>
+ * Exceptions thrown by the subscriber while the spliterator calls {@link #accept(Object)} are not stream failures: they
+ * cancel the subscription and are rethrown to the caller rather than signaled to the subscriber (rule 2.13).
+ *
+ * @param <T> the items type
+ */
+class SpliteratorSubscription<T> implements Subscription, Consumer<T> {
+
+    // Thrown from accept() to interrupt a traversal upon cancellation
+    private static final RuntimeException STOP = new RuntimeException("Cancelled", null, false, false) {
+    };
+
+    // Thrown from accept() to carry a failure of the subscriber through a traversal
+    private static class SubscriberFailure extends RuntimeException {
+
+        SubscriberFailure(Throwable cause) {
+            super(null, cause, false, false);
+        }
+    }
+
+    private final Subscriber<? super T> subscriber;
+    private final Spliterator<T> spliterator;
+    private final BaseStream<?, ?> stream;
+    private final boolean sized;
+
+    private long remaining;
+    private volatile boolean cancelled = false;
+    private final AtomicLong requested = new AtomicLong();
+
+    SpliteratorSubscription(Spliterator<T> spliterator, BaseStream<?, ?> stream, Subscriber<? super T> subscriber) {
+        this.subscriber = subscriber;
+        this.spliterator = spliterator;
+        this.stream = stream;
+        this.sized = spliterator.hasCharacteristics(Spliterator.SIZED);
+        this.remaining = spliterator.getExactSizeIfKnown();
+    }
+
+    @Override
+    public void request(long n) {
+        if (n <= 0L) {
+            cancel();
+            subscriber.onError(Helper.negativeRequest(n));
+            return;
+        }
+        if (Helper.add(requested, n) == 0) {
+            if (n == Long.MAX_VALUE) {
+                deliverAll();
+            } else {
+                deliver(n);
+            }
+        }
+    }
+
+    private void deliver(long n) {
+        long emitted = 0L;
+        for (;;) {
+
+            while (emitted != n) {
+                if (cancelled) {
+                    closeQuietly();
+                    return;
+                }
+                boolean advanced;
+                try {
+                    advanced = spliterator.tryAdvance(this);
+                } catch (SubscriberFailure failure) {
+                    throw subscriberFailed(failure);
+                } catch (Throwable err) {
+                    fail(err);
+                    return;
+                }
+                if (!advanced || (sized && --remaining == 0L)) {
+                    complete();
+                    return;
+                }
+                emitted++;
+            }
+
+            n = requested.get();
+            if (n == emitted) {
+                n = requested.addAndGet(-emitted);
+                if (n == 0L) {
+                    return;
+                }
+                emitted = 0L;
+            }
+        }
+    }
+
+    private void deliverAll() {
+        try {
+            spliterator.forEachRemaining(this);
+        } catch (SubscriberFailure failure) {
+            throw subscriberFailed(failure);
+        } catch (Throwable err) {
+            fail(err);
+            return;
+        }
+        complete();
+    }
+
+    @Override
+    public void accept(T item) {
+        if (cancelled) {
+            throw STOP;
+        }
+        if (item == null) {
+            throw new NullPointerException("The stream has a null value");
+        }
+        try {
+            subscriber.onNext(item);
+        } catch (Throwable err) {
+            throw new SubscriberFailure(err);
+        }
+    }
+
+    private RuntimeException subscriberFailed(SubscriberFailure failure) {
+        cancelled = true;
+        closeQuietly();
+        Throwable cause = failure.getCause();
+        if (cause instanceof Error) {
+            throw (Error) cause;
+        }
+        return (cause instanceof RuntimeException) ? (RuntimeException) cause : failure;
+    }
+
+    private void complete() {
+        if (cancelled) {
+            closeQuietly();
+            return;
+        }
+        cancelled = true;
+        try {
+            stream.close();
+        } catch (Throwable err) {
+            subscriber.onError(err);
+            return;
+        }
+        subscriber.onComplete();
+    }
+
+    private void fail(Throwable err) {
+        if (err == STOP || cancelled) {
+            closeQuietly();
+            return;
+        }
+        cancelled = true;
+        try {
+            stream.close();
+        } catch (Throwable closeFailure) {
+            err.addSuppressed(closeFailure);
+        }
+        subscriber.onError(err);
+    }
+
+    private void closeQuietly() {
+        try {
+            stream.close();
+        } catch (Throwable ignored) {
+            // There is no subscriber to report to anymore
+        }
+    }
+
+    @Override
+    public void cancel() {
+        if (cancelled) {
+            return;
+        }
+        cancelled = true;
+        if (Helper.add(requested, 1L) == 0L) {
+            // No delivery is in progress, and none will start anymore
+            closeQuietly();
+        }
+    }
+}
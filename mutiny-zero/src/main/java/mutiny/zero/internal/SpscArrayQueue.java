@@ -0,0 +1,107 @@
+package mutiny.zero.internal;
+
+import java.util.AbstractQueue;
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A bounded single-producer, single-consumer lock-free ring buffer.
+ * <p>
+ * This is the bounded counterpart of {@link SpscLinkedArrayQueue}: the ring is preallocated with a power-of-two number
+ * of slots, and offering an item fails when the ring is full.
+ * The capacity is enforced exactly, even when it is not a power of two.
+ * <p>
+ * Iterating is not supported.
+ *
+ * @param <T> the elements type
+ */
+public class SpscArrayQueue<T> extends AbstractQueue<T> {
+
+    /**
+     * The largest capacity for which a ring is worth being preallocated.
+     */
+    public static final int MAX_CAPACITY = 1 << 16;
+
+    private final int capacity;
+    private final int mask;
+    private final AtomicReferenceArray<T> slots;
+
+    private final PaddedAtomicLong producerIndex = new PaddedAtomicLong();
+    private final PaddedAtomicLong consumerIndex = new PaddedAtomicLong();
+
+    public SpscArrayQueue(int capacity) {
+        if (capacity <= 0 || capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("The capacity must be in [1, " + MAX_CAPACITY + "]: " + capacity);
+        }
+        this.capacity = capacity;
+        int size = 1;
+        while (size < capacity) {
+            size = size << 1;
+        }
+        this.mask = size - 1;
+        this.slots = new AtomicReferenceArray<>(size);
+    }
+
+    // ---- Producer ---- //
+
+    @Override
+    public boolean offer(T item) {
+        if (item == null) {
+            throw new NullPointerException("The item cannot be null");
+        }
+        long index = producerIndex.getPlain();
+        if (index - consumerIndex.get() >= capacity) {
+            return false;
+        }
+        slots.lazySet((int) index & mask, item);
+        producerIndex.lazySet(index + 1L);
+        return true;
+    }
+
+    @Override
+    public int size() {
+        long size = producerIndex.get() - consumerIndex.get();
+        return (size < 0L) ? 0 : (int) size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return producerIndex.get() == consumerIndex.get();
+    }
+
+    // ---- Consumer ---- //
+
+    @Override
+    public T poll() {
+        long index = consumerIndex.getPlain();
+        if (index == producerIndex.get()) {
+            return null;
+        }
+        int offset = (int) index & mask;
+        T item = slots.get(offset);
+        slots.lazySet(offset, null);
+        consumerIndex.lazySet(index + 1L);
+        return item;
+    }
+
+    @Override
+    public T peek() {
+        long index = consumerIndex.getPlain();
+        if (index == producerIndex.get()) {
+            return null;
+        }
+        return slots.get((int) index & mask);
+    }
+
+    @Override
+    public void clear() {
+        while (poll() != null) {
+            // Drain the ring to release the references
+        }
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        throw new UnsupportedOperationException("Iterating over this queue is not supported");
+    }
+}
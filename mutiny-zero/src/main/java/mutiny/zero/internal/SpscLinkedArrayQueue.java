@@ -0,0 +1,115 @@
+package mutiny.zero.internal;
+
+import java.util.AbstractQueue;
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * An unbounded single-producer, single-consumer queue made of linked fixed-size array chunks.
+ * <p>
+ * This is the counterpart of {@link MpscLinkedArrayQueue} when only one thread at a time offers items, in which case
+ * producing an item does not require any atomic read-modify-write operation.
+ * <p>
+ * Iterating is not supported.
+ *
+ * @param <T> the elements type
+ */
+public class SpscLinkedArrayQueue<T> extends AbstractQueue<T> {
+
+    static final int CHUNK_SIZE = 128;
+
+    private final PaddedAtomicLong producerIndex = new PaddedAtomicLong();
+    private Chunk producerChunk;
+
+    private final PaddedAtomicLong consumerIndex = new PaddedAtomicLong();
+    private Chunk consumerChunk;
+
+    public SpscLinkedArrayQueue() {
+        Chunk chunk = new Chunk(0L);
+        producerChunk = chunk;
+        consumerChunk = chunk;
+    }
+
+    // ---- Producer ---- //
+
+    @Override
+    public boolean offer(T item) {
+        if (item == null) {
+            throw new NullPointerException("The item cannot be null");
+        }
+        long index = producerIndex.getPlain();
+        Chunk chunk = producerChunk;
+        int offset = (int) (index - chunk.base);
+        if (offset == CHUNK_SIZE) {
+            Chunk next = new Chunk(index);
+            chunk.next.lazySet(next);
+            chunk = next;
+            producerChunk = next;
+            offset = 0;
+        }
+        chunk.slots.lazySet(offset, item);
+        producerIndex.lazySet(index + 1L);
+        return true;
+    }
+
+    @Override
+    public int size() {
+        long size = producerIndex.get() - consumerIndex.get();
+        return (size > Integer.MAX_VALUE) ? Integer.MAX_VALUE : (int) size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return producerIndex.get() == consumerIndex.get();
+    }
+
+    // ---- Consumer ---- //
+
+    @Override
+    public T poll() {
+        return take(true);
+    }
+
+    @Override
+    public T peek() {
+        return take(false);
+    }
+
+    @SuppressWarnings("unchecked")
+    private T take(boolean remove) {
+        long index = consumerIndex.getPlain();
+        if (index == producerIndex.get()) {
+            return null;
+        }
+        Chunk chunk = consumerChunk;
+        int offset = (int) (index - chunk.base);
+        if (offset == CHUNK_SIZE) {
+            chunk = chunk.next.get();
+            consumerChunk = chunk;
+            offset = 0;
+        }
+        Object item = chunk.slots.get(offset);
+        if (remove) {
+            chunk.slots.lazySet(offset, null);
+            consumerIndex.lazySet(index + 1L);
+        }
+        return (T) item;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        throw new UnsupportedOperationException("Iterating over this queue is not supported");
+    }
+
+    private static final class Chunk {
+
+        final long base;
+        final AtomicReferenceArray<Object> slots = new AtomicReferenceArray<>(CHUNK_SIZE);
+        final AtomicReference<Chunk> next = new AtomicReference<>();
+
+        Chunk(long base) {
+            this.base = base;
+        }
+    }
+}
@@ -2,6 +2,7 @@ package mutiny.zero.internal;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Spliterator;
 import java.util.concurrent.Flow;
 import java.util.concurrent.Flow.Publisher;
 import java.util.function.Supplier;
@@ -23,7 +24,21 @@ public class StreamPublisher<T> implements Publisher<T> {
             subscriber.onSubscribe(new AlreadyCompletedSubscription());
             subscriber.onError(new NullPointerException("The supplied stream cannot be null"));
         } else {
-            subscriber.onSubscribe(new IteratorSubscription<>(stream.iterator(), subscriber));
+            Spliterator<T> spliterator;
+            try {
+                spliterator = stream.spliterator();
+            } catch (Throwable err) {
+                subscriber.onSubscribe(new AlreadyCompletedSubscription());
+                subscriber.onError(err);
+                return;
+            }
+            if (spliterator.getExactSizeIfKnown() == 0L) {
+                stream.close();
+                subscriber.onSubscribe(new AlreadyCompletedSubscription());
+                subscriber.onComplete();
+            } else {
+                subscriber.onSubscribe(new SpliteratorSubscription<>(spliterator, stream, subscriber));
+            }
         }
     }
 }
@@ -2,12 +2,20 @@ package mutiny.zero.internal;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.Duration;
+import java.util.Iterator;
 import java.util.Queue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.Flow;
 import java.util.concurrent.Flow.Subscription;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.LongConsumer;
 
 import mutiny.zero.Tube;
@@ -19,7 +27,20 @@ public abstract class TubeBase<T> implements Tube<T>, Subscription {
     protected volatile boolean cancelled;
     protected final AtomicInteger wip = new AtomicInteger();
     protected final AtomicLong requested = new AtomicLong();
-    protected final ConcurrentLinkedQueue<T> dispatchQueue = new ConcurrentLinkedQueue<>();
+    // Items from sendAsync are queued as AsyncSend instances, so they keep their order with the other items
+    private final Queue<Object> dispatchQueue;
+
+    // Outstanding requests not claimed by queued items yet, negative when items are queued beyond demand
+    private final AtomicLong credit = new AtomicLong();
+
+    private final boolean singleProducer;
+    private final AtomicReference<Thread> sendingThread = new AtomicReference<>();
+    private int sendDepth;
+
+    private final ReentrantLock demandLock = new ReentrantLock();
+    private final Condition demandAvailable = demandLock.newCondition();
+    private volatile int waitingProducers;
+    private final Queue<CompletableFuture<Void>> demandWaiters = new ConcurrentLinkedQueue<>();
 
     protected volatile Throwable failure;
     protected volatile boolean completed = false;
@@ -36,8 +57,10 @@ public abstract class TubeBase<T> implements Tube<T>, Subscription {
         // Do nothing
     };
 
-    protected TubeBase(Flow.Subscriber<? super T> subscriber) {
+    protected TubeBase(Flow.Subscriber<? super T> subscriber, boolean singleProducer) {
         this.subscriber = subscriber;
+        this.singleProducer = singleProducer;
+        this.dispatchQueue = singleProducer ? new SpscLinkedArrayQueue<>() : new MpscLinkedArrayQueue<>();
     }
 
     // ---- Subscription API ---- //
@@ -51,9 +74,16 @@ public abstract class TubeBase<T> implements Tube<T>, Subscription {
             fail(Helper.negativeRequest(n));
         } else {
             Helper.add(requested, n);
+            if (requested.get() == Long.MAX_VALUE) {
+                // Unbounded demand covers the queued items too
+                credit.set(Long.MAX_VALUE);
+            } else {
+                addCredit(n);
+            }
             requestConsumer.accept(n);
         }
         drainLoop();
+        wakeUpProducers();
     }
 
     @Override
@@ -62,9 +92,13 @@ public abstract class TubeBase<T> implements Tube<T>, Subscription {
             return;
         }
         cancelled = true;
-        dispatchQueue.clear();
+        if (wip.getAndIncrement() == 0) {
+            // Only the drain loop owner may consume from the dispatch queue
+            clearQueue(cancellationException());
+        }
         cancellationAction.run();
         terminationAction.run();
+        wakeUpProducers();
     }
 
     // ---- Tube API ---- //
@@ -77,11 +111,238 @@ public abstract class TubeBase<T> implements Tube<T>, Subscription {
         if (item == null) {
             fail(new NullPointerException("The item is null"));
         } else {
-            handleItem(item);
+            assert enterSend();
+            try {
+                handleItem(item);
+            } finally {
+                assert exitSend();
+            }
+        }
+        return this;
+    }
+
+    @Override
+    public Tube<T> sendAll(Iterable<? extends T> items) {
+        if (cancelled()) {
+            return this;
+        }
+        if (items == null) {
+            fail(new NullPointerException("The items are null"));
+        } else {
+            assert enterSend();
+            try {
+                handleItems(items.iterator());
+            } finally {
+                assert exitSend();
+            }
         }
         return this;
     }
 
+    @Override
+    public Tube<T> sendBlocking(T item) throws InterruptedException {
+        if (reserveDemand(-1L)) {
+            sendReserved(item);
+        }
+        return this;
+    }
+
+    @Override
+    public boolean sendWithTimeout(T item, Duration timeout) throws InterruptedException {
+        requireNonNull(timeout, "The timeout cannot be null");
+        if (reserveDemand(Math.max(0L, Helper.toNanos(timeout)))) {
+            sendReserved(item);
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public CompletionStage<Void> awaitDemand() {
+        if (demandWaiters.isEmpty() && hasDemand()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        demandWaiters.offer(future);
+        // The demand may have arrived before the future was visible to requesters
+        completeDemandWaiters();
+        return future;
+    }
+
+    @Override
+    public CompletionStage<Void> sendAsync(T item) {
+        if (item == null) {
+            NullPointerException err = new NullPointerException("The item is null");
+            fail(err);
+            return CompletableFuture.failedFuture(err);
+        }
+        if (cancelled || failure != null) {
+            return CompletableFuture.failedFuture(terminalFailure());
+        }
+        // The item is emitted by whichever thread owns the drain loop, once the items queued before it are emitted
+        AsyncSend<T> pending = new AsyncSend<>(item);
+        claimCredit(Long.MIN_VALUE);
+        dispatchQueue.offer(pending);
+        drainLoop();
+        if (cancelled || failure != null) {
+            // The drain loop may have terminated before the item was offered, this is a no-op if it has been emitted
+            pending.future.completeExceptionally(terminalFailure());
+        }
+        return pending.future;
+    }
+
+    // Claims one unit of demand, waiting forever when timeoutNanos is negative, returns false on timeout or when items
+    // cannot be sent anymore
+    private boolean reserveDemand(long timeoutNanos) throws InterruptedException {
+        if (!tryReserveDemand()) {
+            long remaining = timeoutNanos;
+            demandLock.lockInterruptibly();
+            try {
+                waitingProducers++;
+                try {
+                    while (!tryReserveDemand()) {
+                        if (cancelled || failure != null) {
+                            return false;
+                        }
+                        if (remaining < 0L) {
+                            demandAvailable.await();
+                        } else if (remaining == 0L) {
+                            return false;
+                        } else {
+                            remaining = Math.max(0L, demandAvailable.awaitNanos(remaining));
+                        }
+                    }
+                } finally {
+                    waitingProducers--;
+                }
+            } finally {
+                demandLock.unlock();
+            }
+        }
+        if (cancelled || failure != null) {
+            releaseDemand();
+            return false;
+        }
+        return true;
+    }
+
+    private boolean tryReserveDemand() {
+        return ignoresDemand() || claimDemand();
+    }
+
+    private void releaseDemand() {
+        if (!ignoresDemand()) {
+            addCredit(1L);
+            wakeUpProducers();
+        }
+    }
+
+    // The back-pressure strategy does not apply since the item has already claimed its demand
+    private void sendReserved(T item) {
+        if (item == null) {
+            releaseDemand();
+            fail(new NullPointerException("The item is null"));
+            return;
+        }
+        assert enterSend();
+        try {
+            dispatchClaimed(item);
+        } finally {
+            assert exitSend();
+        }
+    }
+
+    private boolean hasDemand() {
+        return unclaimedDemand() > 0L;
+    }
+
+    // Outstanding requests that queued items have not claimed yet
+    private long unclaimedDemand() {
+        return ignoresDemand() ? Long.MAX_VALUE : Math.max(0L, credit.get());
+    }
+
+    private void wakeUpProducers() {
+        // A producer increments waitingProducers before checking the demand, so it cannot miss this signal
+        if (waitingProducers > 0) {
+            demandLock.lock();
+            try {
+                demandAvailable.signalAll();
+            } finally {
+                demandLock.unlock();
+            }
+        }
+        if (!demandWaiters.isEmpty()) {
+            completeDemandWaiters();
+        }
+    }
+
+    private void completeDemandWaiters() {
+        CompletableFuture<Void> future;
+        // Do not release more waiters than there are outstanding requests, and check again in case they sent items
+        long releasable = unclaimedDemand();
+        while ((releasable > 0L || cancelled || failure != null) && (future = demandWaiters.poll()) != null) {
+            Throwable err = failure;
+            if (err != null) {
+                future.completeExceptionally(err);
+            } else if (cancelled) {
+                future.completeExceptionally(cancellationException());
+            } else {
+                future.complete(null);
+                releasable = Math.min(releasable - 1L, unclaimedDemand());
+            }
+        }
+    }
+
+    private Throwable terminalFailure() {
+        Throwable err = failure;
+        return (err != null) ? err : cancellationException();
+    }
+
+    private static CancellationException cancellationException() {
+        return new CancellationException("The subscription has been cancelled");
+    }
+
+    // Discards the queued items and fails the pending sendAsync stages, must be called by the drain loop owner
+    private void clearQueue(Throwable err) {
+        Object next;
+        while ((next = dispatchQueue.poll()) != null) {
+            if (next instanceof AsyncSend) {
+                ((AsyncSend<?>) next).future.completeExceptionally(err);
+            }
+        }
+    }
+
+    private static class AsyncSend<T> {
+
+        final T item;
+        final CompletableFuture<Void> future = new CompletableFuture<>();
+
+        AsyncSend(T item) {
+            this.item = item;
+        }
+    }
+
+    // Only called when assertions are enabled
+    private boolean enterSend() {
+        if (singleProducer) {
+            Thread current = Thread.currentThread();
+            if (sendingThread.get() != current && !sendingThread.compareAndSet(null, current)) {
+                throw new AssertionError("The tube has been configured for a single producer, but " + current
+                        + " is sending an item while " + sendingThread.get() + " is also sending an item");
+            }
+            sendDepth++;
+        }
+        return true;
+    }
+
+    // Only called when assertions are enabled
+    private boolean exitSend() {
+        if (singleProducer && --sendDepth == 0) {
+            sendingThread.set(null);
+        }
+        return true;
+    }
+
     @Override
     public void fail(Throwable err) {
         if (cancelled) {
@@ -92,6 +353,7 @@ public abstract class TubeBase<T> implements Tube<T>, Subscription {
         }
         failure = err;
         drainLoop();
+        wakeUpProducers();
     }
 
     @Override
@@ -145,64 +407,269 @@ public abstract class TubeBase<T> implements Tube<T>, Subscription {
 
     protected abstract void handleItem(T item);
 
+    // Tubes that emit regardless of the subscriber demand (e.g., the IGNORE back-pressure strategy)
+    protected boolean ignoresDemand() {
+        return false;
+    }
+
+    // Bounded tubes override this to apply their overflow policy
+    protected void enqueue(T item) {
+        claimCredit(Long.MIN_VALUE);
+        dispatchQueue.offer(item);
+    }
+
+    // Queues the item unless it would leave more than maxOverflow items queued beyond the outstanding demand
+    protected boolean tryEnqueue(T item, long maxOverflow) {
+        if (!claimCredit(-maxOverflow)) {
+            return false;
+        }
+        dispatchQueue.offer(item);
+        return true;
+    }
+
+    // Called by the drain loop owner once it has emitted what the outstanding demand allows
+    protected void trimOverflow() {
+        // Do nothing
+    }
+
+    // Number of queued items that are not covered by the outstanding demand, negative when there is unclaimed demand
+    protected long overflowCount() {
+        return -credit.get();
+    }
+
+    // Discards the oldest queued item, must be called by the drain loop owner
+    protected boolean dropOldest() {
+        Object oldest = dispatchQueue.peek();
+        if (oldest == null || oldest instanceof AsyncSend) {
+            // Items from sendAsync wait for demand whatever the back-pressure strategy
+            return false;
+        }
+        dispatchQueue.poll();
+        addCredit(1L);
+        return true;
+    }
+
+    // Claims one unit of the outstanding demand that is not claimed by queued items yet
+    protected boolean claimDemand() {
+        return claimCredit(0L);
+    }
+
+    // Takes one unit of credit, unless the credit is already at the floor
+    private boolean claimCredit(long floor) {
+        while (true) {
+            long current = credit.get();
+            if (current <= floor) {
+                return false;
+            }
+            if (current == Long.MAX_VALUE || credit.compareAndSet(current, current - 1L)) {
+                // Unbounded demand is never consumed
+                return true;
+            }
+        }
+    }
+
+    // Claims all the outstanding demand that is not claimed by queued items yet
+    private long claimAllCredit() {
+        while (true) {
+            long current = credit.get();
+            if (current <= 0L) {
+                return 0L;
+            }
+            if (current == Long.MAX_VALUE || credit.compareAndSet(current, 0L)) {
+                // Unbounded demand is never consumed
+                return current;
+            }
+        }
+    }
+
+    // Unlike Helper.add, the credit may be negative
+    private void addCredit(long n) {
+        while (true) {
+            long current = credit.get();
+            if (current == Long.MAX_VALUE) {
+                return;
+            }
+            long update = current + n;
+            if (current > 0L && update < 0L) {
+                update = Long.MAX_VALUE;
+            }
+            if (credit.compareAndSet(current, update)) {
+                return;
+            }
+        }
+    }
+
+    // Called for items that arrive when there is no outstanding demand
+    protected void overflow(T item) {
+        enqueue(item);
+    }
+
+    private void handleItems(Iterator<? extends T> items) {
+        if (!wip.compareAndSet(0, 1)) {
+            // Another thread is draining (or this is a re-entrant call from onNext)
+            while (items.hasNext() && !cancelled && failure == null) {
+                T item = items.next();
+                if (item == null) {
+                    fail(new NullPointerException("The item is null"));
+                } else {
+                    handleItem(item);
+                }
+            }
+            return;
+        }
+        // The budget excludes the demand claimed by queued items
+        long budget = ignoresDemand() ? Long.MAX_VALUE : claimAllCredit();
+        if (dispatchQueue.isEmpty()) {
+            // Fast path: emit directly while there is demand, then account for the emitted items once
+            long emitted = 0L;
+            while (emitted != budget && !cancelled && failure == null && items.hasNext()) {
+                T item = items.next();
+                if (item == null) {
+                    fail(new NullPointerException("The item is null"));
+                    break;
+                }
+                subscriber.onNext(item);
+                emitted++;
+                if (emitted == budget && budget != Long.MAX_VALUE) {
+                    // Requests may have been made from onNext
+                    requested.addAndGet(-emitted);
+                    budget = claimAllCredit();
+                    emitted = 0L;
+                }
+            }
+            if (budget != Long.MAX_VALUE) {
+                requested.addAndGet(-emitted);
+                budget -= emitted;
+            }
+        }
+        while (!cancelled && failure == null && items.hasNext()) {
+            T item = items.next();
+            if (item == null) {
+                fail(new NullPointerException("The item is null"));
+            } else if (budget > 0L) {
+                // The item has already claimed its demand
+                if (budget != Long.MAX_VALUE) {
+                    budget--;
+                }
+                dispatchQueue.offer(item);
+            } else {
+                overflow(item);
+            }
+        }
+        if (budget > 0L && budget != Long.MAX_VALUE && !ignoresDemand()) {
+            // Producers waiting for demand may have missed the unused demand
+            addCredit(budget);
+            wakeUpProducers();
+        }
+        drain(1);
+    }
+
+    protected void dispatch(T item) {
+        if (ignoresDemand() || claimDemand()) {
+            dispatchClaimed(item);
+        } else {
+            enqueue(item);
+            drainLoop();
+        }
+    }
+
+    // Dispatches an item that has already claimed one unit of demand
+    protected void dispatchClaimed(T item) {
+        if (wip.compareAndSet(0, 1)) {
+            if (dispatchQueue.isEmpty() && failure == null && !cancelled) {
+                // Fast path: there is demand and nothing queued before this item
+                subscriber.onNext(item);
+                if (!ignoresDemand() && requested.get() != Long.MAX_VALUE) {
+                    requested.decrementAndGet();
+                }
+                int missed = wip.decrementAndGet();
+                if (missed != 0) {
+                    drain(missed);
+                }
+            } else {
+                dispatchQueue.offer(item);
+                drain(1);
+            }
+        } else {
+            dispatchQueue.offer(item);
+            drainLoop();
+        }
+    }
+
     protected void drainLoop() {
         if (wip.getAndIncrement() != 0) {
             // Another tread is working
             return;
         }
+        drain(1);
+    }
 
-        int missed = 1;
-        Queue<T> queue = dispatchQueue;
+    @SuppressWarnings("unchecked")
+    private void drain(int missed) {
+        Queue<Object> queue = dispatchQueue;
         while (missed != 0) {
             long emitted = 0L;
-            long pending = outstandingRequests();
+            long pending = ignoresDemand() ? Long.MAX_VALUE : outstandingRequests();
 
             if (cancelled) {
-                queue.clear();
+                clearQueue(cancellationException());
                 cancellationAction.run();
                 return;
             }
 
-            do {
+            while (emitted != pending) {
                 if (cancelled) {
-                    queue.clear();
+                    clearQueue(cancellationException());
                     cancellationAction.run();
                     return;
                 }
 
-                T item = queue.poll();
-                if (item == null && completed) {
-                    cancelled = true;
-                    if (failure != null) {
-                        subscriber.onError(failure);
-                    } else {
-                        subscriber.onComplete();
+                boolean done = completed;
+                Object next = queue.poll();
+                if (next == null) {
+                    if (done) {
+                        cancelled = true;
+                        if (failure != null) {
+                            subscriber.onError(failure);
+                        } else {
+                            subscriber.onComplete();
+                        }
+                        terminationAction.run();
+                        return;
                     }
-                    terminationAction.run();
-                    return;
-                }
-                if (item == null) {
                     break;
                 }
-
-                subscriber.onNext(item);
+                if (next instanceof AsyncSend) {
+                    AsyncSend<T> asyncSend = (AsyncSend<T>) next;
+                    if (failure != null) {
+                        // Items from sendAsync are not emitted once the tube has failed, their stages fail instead
+                        asyncSend.future.completeExceptionally(failure);
+                        continue;
+                    }
+                    subscriber.onNext(asyncSend.item);
+                    asyncSend.future.complete(null);
+                } else {
+                    subscriber.onNext((T) next);
+                }
                 emitted++;
-            } while (emitted != pending);
+            }
 
-            if (emitted > 0) {
+            if (emitted > 0 && pending != Long.MAX_VALUE) {
                 requested.addAndGet(-emitted);
             }
 
             if (cancelled) {
-                queue.clear();
+                clearQueue(cancellationException());
                 return;
             }
+            trimOverflow();
             if (failure != null) {
                 cancelled = true;
+                clearQueue(failure);
                 subscriber.onError(failure);
                 terminationAction.run();
                 return;
-            } else if (queue.isEmpty() && completed) {
+            } else if (completed && queue.isEmpty()) {
                 cancelled = true;
                 subscriber.onComplete();
                 terminationAction.run();
@@ -14,11 +14,13 @@ public class TubePublisher<T> implements Publisher<T> {
 
     private final BackpressureStrategy backpressureStrategy;
     private final int bufferSize;
+    private final boolean singleProducer;
     private final Consumer<Tube<T>> tubeConsumer;
 
     public TubePublisher(TubeConfiguration configuration, Consumer<Tube<T>> tubeConsumer) {
         this.backpressureStrategy = configuration.getBackpressureStrategy();
         this.bufferSize = configuration.getBufferSize();
+        this.singleProducer = configuration.isSingleProducer();
         this.tubeConsumer = tubeConsumer;
     }
 
@@ -28,22 +30,22 @@ public class TubePublisher<T> implements Publisher<T> {
         TubeBase<T> tube = null;
         switch (backpressureStrategy) {
             case BUFFER:
-                tube = new BufferingTube<>(subscriber, bufferSize);
+                tube = new BufferingTube<>(subscriber, bufferSize, singleProducer);
                 break;
             case UNBOUNDED_BUFFER:
-                tube = new UnbounbedBufferingTube<>(subscriber);
+                tube = new UnbounbedBufferingTube<>(subscriber, singleProducer);
                 break;
             case DROP:
-                tube = new DroppingTube<>(subscriber);
+                tube = new DroppingTube<>(subscriber, singleProducer);
                 break;
             case ERROR:
-                tube = new ErroringTube<>(subscriber);
+                tube = new ErroringTube<>(subscriber, singleProducer);
                 break;
             case IGNORE:
-                tube = new IgnoringTube<>(subscriber);
+                tube = new IgnoringTube<>(subscriber, singleProducer);
                 break;
             case LATEST:
-                tube = new LatestTube<>(subscriber, bufferSize);
+                tube = new LatestTube<>(subscriber, bufferSize, singleProducer);
                 break;
         }
         subscriber.onSubscribe(tube);
@@ -0,0 +1,401 @@
+package mutiny.zero.operators;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Flow;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+import mutiny.zero.internal.Helper;
+import mutiny.zero.internal.SpscLinkedArrayQueue;
+
+/**
+ * A {@link java.util.concurrent.Flow.Publisher} that groups the elements of an upstream publisher into lists.
+ * <p>
+ * A list is emitted when it has reached a given size, or, when a maximum latency is given, when that much time has
+ * elapsed since its first element was received, whichever comes first.
+ * The last list may have fewer elements when the upstream publisher completes.
+ * <p>
+ * Elements are requested from upstream to fill the lists that have been requested and not emitted yet, that is
+ * {@code n * size} elements for a request of {@code n} lists, minus the elements already requested for them.
+ * Lists that are emitted early because of the maximum latency are held until there is downstream demand, and the
+ * elements requested for them that have not been received yet go to the next lists.
+ * <p>
+ * Failures are forwarded as soon as possible, discarding elements that have not been delivered yet.
+ *
+ * @param <T> the elements type
+ */
+public class Buffer<T> implements Flow.Publisher<List<T>> {
+
+    private final Flow.Publisher<T> upstream;
+    private final int size;
+    private final Duration maxLatency;
+    private final ScheduledExecutorService scheduler;
+
+    /**
+     * Build a new buffer publisher that emits lists when they are full.
+     *
+     * @param upstream the upstream publisher
+     * @param size the number of elements in each list, must be strictly positive
+     */
+    public Buffer(Flow.Publisher<T> upstream, int size) {
+        this.upstream = requireNonNull(upstream, "The upstream cannot be null");
+        if (size <= 0) {
+            throw new IllegalArgumentException("The size must be strictly positive: " + size);
+        }
+        this.size = size;
+        this.maxLatency = null;
+        this.scheduler = null;
+    }
+
+    /**
+     * Build a new buffer publisher that emits lists when they are full, or when their first element has been waiting
+     * for a maximum latency.
+     *
+     * @param upstream the upstream publisher
+     * @param size the maximum number of elements in each list, must be strictly positive
+     * @param maxLatency the maximum time between receiving the first element of a list and emitting the list, must be
+     *        strictly positive
+     * @param scheduler the executor to schedule the emission of lists that are not full on
+     */
+    public Buffer(Flow.Publisher<T> upstream, int size, Duration maxLatency, ScheduledExecutorService scheduler) {
+        this.upstream = requireNonNull(upstream, "The upstream cannot be null");
+        if (size <= 0) {
+            throw new IllegalArgumentException("The size must be strictly positive: " + size);
+        }
+        requireNonNull(maxLatency, "The maximum latency cannot be null");
+        if (maxLatency.isZero() || maxLatency.isNegative()) {
+            throw new IllegalArgumentException("The maximum latency must be strictly positive: " + maxLatency);
+        }
+        this.size = size;
+        this.maxLatency = maxLatency;
+        this.scheduler = requireNonNull(scheduler, "The scheduler cannot be null");
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super List<T>> subscriber) {
+        requireNonNull(subscriber, "The subscriber cannot be null");
+        upstream.subscribe(new BufferSubscriber<>(subscriber, size, maxLatency, scheduler));
+    }
+
+    private static class BufferSubscriber<T> implements Flow.Subscriber<T>, Flow.Subscription {
+
+        private final Flow.Subscriber<? super List<T>> downstream;
+        private final int size;
+        private final long maxLatencyNanos;
+        private final ScheduledExecutorService scheduler;
+
+        // Guards the current list and its timer, as the upstream and the scheduler threads can both flush it
+        private final ReentrantLock lock = new ReentrantLock();
+        private List<T> current;
+        private long generation;
+        private ScheduledFuture<?> timer;
+
+        // Also guarded by the lock: lists requested and flushed since the subscription, and elements requested from
+        // upstream and not received yet
+        private long requestedLists;
+        private long flushedLists;
+        private long upstreamOutstanding;
+
+        // Only offered to while holding the lock
+        private final SpscLinkedArrayQueue<List<T>> ready = new SpscLinkedArrayQueue<>();
+
+        private final AtomicInteger wip = new AtomicInteger();
+        private final AtomicLong requested = new AtomicLong();
+
+        private Flow.Subscription upstreamSubscription;
+        private volatile boolean done;
+        private volatile boolean cancelled;
+        private Throwable failure;
+
+        BufferSubscriber(Flow.Subscriber<? super List<T>> downstream, int size, Duration maxLatency,
+                ScheduledExecutorService scheduler) {
+            this.downstream = downstream;
+            this.size = size;
+            this.maxLatencyNanos = (maxLatency != null) ? Helper.toNanos(maxLatency) : 0L;
+            this.scheduler = scheduler;
+        }
+
+        // ---- Subscriber
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.upstreamSubscription = subscription;
+            downstream.onSubscribe(this);
+        }
+
+        @Override
+        public void onNext(T item) {
+            if (done) {
+                return;
+            }
+            boolean flushed = false;
+            RejectedExecutionException rejection = null;
+            lock.lock();
+            try {
+                if (upstreamOutstanding != Long.MAX_VALUE) {
+                    upstreamOutstanding--;
+                }
+                if (current == null) {
+                    current = new ArrayList<>(size);
+                    rejection = startTimer();
+                }
+                current.add(item);
+                if (current.size() == size) {
+                    flush();
+                    stopTimer();
+                    flushed = true;
+                }
+            } finally {
+                lock.unlock();
+            }
+            if (rejection != null) {
+                upstreamSubscription.cancel();
+                onError(rejection);
+            } else if (flushed) {
+                drain();
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            if (done) {
+                return;
+            }
+            lock.lock();
+            try {
+                stopTimer();
+            } finally {
+                lock.unlock();
+            }
+            failure = throwable;
+            done = true;
+            drain();
+        }
+
+        @Override
+        public void onComplete() {
+            if (done) {
+                return;
+            }
+            lock.lock();
+            try {
+                if (current != null) {
+                    flush();
+                }
+                stopTimer();
+            } finally {
+                lock.unlock();
+            }
+            done = true;
+            drain();
+        }
+
+        // ---- Subscription
+
+        @Override
+        public void request(long n) {
+            if (n <= 0L) {
+                // Upstream may have terminated already, so the failure takes precedence over its terminal signal
+                upstreamSubscription.cancel();
+                lock.lock();
+                try {
+                    stopTimer();
+                } finally {
+                    lock.unlock();
+                }
+                failure = Helper.negativeRequest(n);
+                done = true;
+                drain();
+                return;
+            }
+            Helper.add(requested, n);
+            lock.lock();
+            try {
+                requestedLists += n;
+                if (requestedLists < 0L) {
+                    requestedLists = Long.MAX_VALUE;
+                }
+            } finally {
+                lock.unlock();
+            }
+            replenish();
+            drain();
+        }
+
+        // Requests the elements missing to fill the requested lists that have not been flushed yet
+        private void replenish() {
+            long n;
+            lock.lock();
+            try {
+                long wanted;
+                if (requestedLists == Long.MAX_VALUE) {
+                    wanted = Long.MAX_VALUE;
+                } else {
+                    long lists = requestedLists - flushedLists;
+                    if (lists <= 0L) {
+                        return;
+                    }
+                    if (current != null) {
+                        lists--;
+                    }
+                    wanted = multiplyCap(lists, size);
+                    if (current != null) {
+                        wanted += size - current.size();
+                        if (wanted < 0L) {
+                            wanted = Long.MAX_VALUE;
+                        }
+                    }
+                }
+                if (upstreamOutstanding == Long.MAX_VALUE || wanted <= upstreamOutstanding) {
+                    return;
+                }
+                n = (wanted == Long.MAX_VALUE) ? Long.MAX_VALUE : wanted - upstreamOutstanding;
+                upstreamOutstanding = wanted;
+            } finally {
+                lock.unlock();
+            }
+            upstreamSubscription.request(n);
+        }
+
+        @Override
+        public void cancel() {
+            if (!cancelled) {
+                cancelled = true;
+                upstreamSubscription.cancel();
+                lock.lock();
+                try {
+                    current = null;
+                    stopTimer();
+                } finally {
+                    lock.unlock();
+                }
+                if (wip.getAndIncrement() == 0) {
+                    ready.clear();
+                }
+            }
+        }
+
+        private static long multiplyCap(long a, long b) {
+            long product = a * b;
+            if (((a | b) >>> 31) != 0L && product / b != a) {
+                return Long.MAX_VALUE;
+            }
+            return product;
+        }
+
+        // ---- Lists and timer, must be called while holding the lock
+
+        private void flush() {
+            ready.offer(current);
+            current = null;
+            flushedLists++;
+        }
+
+        private RejectedExecutionException startTimer() {
+            if (scheduler == null) {
+                return null;
+            }
+            long expected = ++generation;
+            try {
+                timer = scheduler.schedule(() -> timeout(expected), maxLatencyNanos, TimeUnit.NANOSECONDS);
+                return null;
+            } catch (RejectedExecutionException rejection) {
+                return rejection;
+            }
+        }
+
+        private void stopTimer() {
+            ScheduledFuture<?> future = timer;
+            if (future != null) {
+                timer = null;
+                future.cancel(false);
+            }
+        }
+
+        private void timeout(long expected) {
+            boolean flushed = false;
+            lock.lock();
+            try {
+                // The list the timer was started for may have been flushed already
+                if (expected == generation && current != null && !done) {
+                    flush();
+                    timer = null;
+                    flushed = true;
+                }
+            } finally {
+                lock.unlock();
+            }
+            if (flushed) {
+                // The elements requested for the rest of the list go to the next ones
+                replenish();
+                drain();
+            }
+        }
+
+        // ---- Drain
+
+        private void drain() {
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+            int missed = 1;
+            while (true) {
+                long pending = requested.get();
+                long emitted = 0L;
+                while (emitted != pending) {
+                    boolean terminated = done;
+                    List<T> batch = ready.poll();
+                    if (checkTerminated(terminated, batch == null)) {
+                        return;
+                    }
+                    if (batch == null) {
+                        break;
+                    }
+                    downstream.onNext(batch);
+                    emitted++;
+                }
+                if (emitted == pending && checkTerminated(done, ready.isEmpty())) {
+                    return;
+                }
+                if (emitted != 0L && pending != Long.MAX_VALUE) {
+                    requested.addAndGet(-emitted);
+                }
+                missed = wip.addAndGet(-missed);
+                if (missed == 0) {
+                    return;
+                }
+            }
+        }
+
+        private boolean checkTerminated(boolean terminated, boolean empty) {
+            if (cancelled) {
+                ready.clear();
+                return true;
+            }
+            if (terminated) {
+                Throwable failure = this.failure;
+                if (failure != null) {
+                    cancelled = true;
+                    ready.clear();
+                    downstream.onError(failure);
+                    return true;
+                }
+                if (empty) {
+                    cancelled = true;
+                    downstream.onComplete();
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
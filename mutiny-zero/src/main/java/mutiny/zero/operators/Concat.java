@@ -0,0 +1,214 @@
+package mutiny.zero.operators;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import mutiny.zero.internal.Helper;
+
+/**
+ * A {@link java.util.concurrent.Flow.Publisher} that concatenates the elements of several publishers, subscribing to
+ * each of them once the previous one has completed.
+ * <p>
+ * A single subscriber is subscribed to each publisher in turn, and it arbitrates subscriptions so that the outstanding
+ * demand is carried from one publisher to the next one.
+ * Switching to the next publisher does not allocate, and it is trampolined so that long sequences of publishers that
+ * complete synchronously do not grow the stack.
+ * <p>
+ * The concatenation fails as soon as one of the publishers fails.
+ *
+ * @param <T> the elements type
+ */
+public class Concat<T> implements Flow.Publisher<T> {
+
+    private final List<Flow.Publisher<T>> publishers;
+
+    /**
+     * Build a new concatenation publisher.
+     *
+     * @param publishers the publishers to concatenate
+     */
+    public Concat(List<Flow.Publisher<T>> publishers) {
+        this.publishers = requireNonNull(publishers, "The publishers cannot be null");
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super T> subscriber) {
+        requireNonNull(subscriber, "The subscriber cannot be null");
+        ConcatSubscriber<T> concat = new ConcatSubscriber<>(subscriber, publishers.iterator());
+        subscriber.onSubscribe(concat);
+        // Subscribe to the first publisher as if an empty one had completed
+        concat.onComplete();
+    }
+
+    private static class ConcatSubscriber<T> implements Flow.Subscriber<T>, Flow.Subscription {
+
+        private final Flow.Subscriber<? super T> downstream;
+        private final Iterator<Flow.Publisher<T>> iterator;
+
+        // Trampolines the subscriptions to publishers
+        private final AtomicInteger wip = new AtomicInteger();
+        private int index;
+        private long produced;
+
+        // Subscription arbitration, the missed values being applied by the thread that owns the arbiter counter
+        private final AtomicInteger arbiterWip = new AtomicInteger();
+        private final AtomicReference<Flow.Subscription> missedSubscription = new AtomicReference<>();
+        private final AtomicLong missedRequested = new AtomicLong();
+        private final AtomicLong missedProduced = new AtomicLong();
+        private Flow.Subscription current;
+        private long requested;
+
+        private volatile boolean cancelled;
+        private volatile boolean done;
+
+        ConcatSubscriber(Flow.Subscriber<? super T> downstream, Iterator<Flow.Publisher<T>> iterator) {
+            this.downstream = downstream;
+            this.iterator = iterator;
+        }
+
+        // ---- Subscriber
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            if (cancelled) {
+                subscription.cancel();
+                return;
+            }
+            missedSubscription.set(subscription);
+            arbitrate();
+        }
+
+        @Override
+        public void onNext(T item) {
+            if (!done) {
+                produced++;
+                downstream.onNext(item);
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            if (!done) {
+                done = true;
+                downstream.onError(throwable);
+            }
+        }
+
+        @Override
+        public void onComplete() {
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+            do {
+                if (cancelled || done) {
+                    return;
+                }
+                if (!iterator.hasNext()) {
+                    done = true;
+                    downstream.onComplete();
+                    return;
+                }
+                Flow.Publisher<T> publisher = iterator.next();
+                if (publisher == null) {
+                    done = true;
+                    downstream.onError(new NullPointerException("The publisher at index " + index + " is null"));
+                    return;
+                }
+                index++;
+                long count = produced;
+                if (count != 0L) {
+                    produced = 0L;
+                    missedProduced.addAndGet(count);
+                    arbitrate();
+                }
+                publisher.subscribe(this);
+            } while (wip.decrementAndGet() != 0);
+        }
+
+        // ---- Subscription
+
+        @Override
+        public void request(long n) {
+            if (n <= 0L) {
+                cancel();
+                downstream.onError(Helper.negativeRequest(n));
+                return;
+            }
+            Helper.add(missedRequested, n);
+            arbitrate();
+        }
+
+        @Override
+        public void cancel() {
+            if (!cancelled) {
+                cancelled = true;
+                arbitrate();
+            }
+        }
+
+        // ---- Arbitration
+
+        private void arbitrate() {
+            if (arbiterWip.getAndIncrement() != 0) {
+                return;
+            }
+            int missed = 1;
+            long requestAmount = 0L;
+            Flow.Subscription requestTarget = null;
+            do {
+                Flow.Subscription subscription = missedSubscription.getAndSet(null);
+                long missedRequest = missedRequested.getAndSet(0L);
+                long missedProduction = missedProduced.getAndSet(0L);
+
+                if (cancelled) {
+                    if (current != null) {
+                        current.cancel();
+                        current = null;
+                    }
+                    if (subscription != null) {
+                        subscription.cancel();
+                    }
+                    requestTarget = null;
+                } else {
+                    long pending = requested;
+                    if (pending != Long.MAX_VALUE) {
+                        pending = addCap(pending, missedRequest);
+                        if (pending != Long.MAX_VALUE) {
+                            pending = Math.max(0L, pending - missedProduction);
+                        }
+                        requested = pending;
+                    }
+                    if (subscription != null) {
+                        // Switching publishers: request the whole outstanding demand from the new one
+                        current = subscription;
+                        requestTarget = subscription;
+                        requestAmount = pending;
+                    } else if (current != null && missedRequest != 0L) {
+                        if (requestTarget == current) {
+                            requestAmount = addCap(requestAmount, missedRequest);
+                        } else {
+                            requestTarget = current;
+                            requestAmount = missedRequest;
+                        }
+                    }
+                }
+                missed = arbiterWip.addAndGet(-missed);
+            } while (missed != 0);
+
+            if (requestTarget != null && requestAmount != 0L) {
+                requestTarget.request(requestAmount);
+            }
+        }
+
+        private static long addCap(long a, long b) {
+            long sum = a + b;
+            return (sum < 0L) ? Long.MAX_VALUE : sum;
+        }
+    }
+}
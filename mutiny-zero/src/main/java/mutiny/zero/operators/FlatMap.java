@@ -0,0 +1,206 @@
+package mutiny.zero.operators;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import mutiny.zero.internal.CompletionStagePublisher;
+import mutiny.zero.internal.Scalars;
+
+/**
+ * A {@link java.util.concurrent.Flow.Publisher} that maps each element to a publisher, and merges the elements of these
+ * publishers as they arrive.
+ * <p>
+ * At most {@code maxConcurrency} inner publishers are subscribed at the same time, as the upstream publisher is only
+ * requested more elements as inner publishers complete.
+ * Each inner publisher has a bounded queue of {@code prefetch} elements that is replenished each time 75% of it has
+ * been consumed, and the downstream demand is spread fairly across inner publishers.
+ * <p>
+ * Inner publishers created with {@link mutiny.zero.ZeroPublisher#fromItems(Object[])} with zero or one item,
+ * {@link mutiny.zero.ZeroPublisher#empty()} and
+ * {@link mutiny.zero.ZeroPublisher#fromCompletionStage(java.util.function.Supplier)}
+ * with an already completed stage are not subscribed to: their item is directly emitted when possible.
+ * <p>
+ * The resulting publisher fails as soon as the upstream publisher or an inner publisher fails.
+ *
+ * @param <I> the input elements type
+ * @param <O> the output elements type
+ */
+public class FlatMap<I, O> implements Flow.Publisher<O> {
+
+    /**
+     * The default maximum number of inner publishers being subscribed at the same time.
+     */
+    public static final int DEFAULT_MAX_CONCURRENCY = 128;
+
+    /**
+     * The default number of elements prefetched from each inner publisher.
+     */
+    public static final int DEFAULT_PREFETCH = 256;
+
+    private final Flow.Publisher<I> upstream;
+    private final Function<I, Flow.Publisher<O>> mapper;
+    private final int maxConcurrency;
+    private final int prefetch;
+
+    /**
+     * Build a new flat map publisher, using the {@link #DEFAULT_MAX_CONCURRENCY default maximum concurrency} and the
+     * {@link #DEFAULT_PREFETCH default prefetch}.
+     *
+     * @param upstream the upstream publisher
+     * @param mapper the mapping function, must not return {@code null} values
+     */
+    public FlatMap(Flow.Publisher<I> upstream, Function<I, Flow.Publisher<O>> mapper) {
+        this(upstream, mapper, DEFAULT_MAX_CONCURRENCY, DEFAULT_PREFETCH);
+    }
+
+    /**
+     * Build a new flat map publisher.
+     *
+     * @param upstream the upstream publisher
+     * @param mapper the mapping function, must not return {@code null} values
+     * @param maxConcurrency the maximum number of inner publishers being subscribed at the same time, must be strictly
+     *        positive, {@link Integer#MAX_VALUE} for an unbounded concurrency
+     * @param prefetch the number of elements to prefetch from each inner publisher, must be in {@code [1, 65536]}
+     */
+    public FlatMap(Flow.Publisher<I> upstream, Function<I, Flow.Publisher<O>> mapper, int maxConcurrency, int prefetch) {
+        this.upstream = requireNonNull(upstream, "The upstream cannot be null");
+        this.mapper = requireNonNull(mapper, "The mapper cannot be null");
+        if (maxConcurrency <= 0) {
+            throw new IllegalArgumentException("The maximum concurrency must be strictly positive: " + maxConcurrency);
+        }
+        if (prefetch <= 0 || prefetch > 65536) {
+            throw new IllegalArgumentException("The prefetch must be in [1, 65536]: " + prefetch);
+        }
+        this.maxConcurrency = maxConcurrency;
+        this.prefetch = prefetch;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super O> subscriber) {
+        requireNonNull(subscriber, "The subscriber cannot be null");
+        upstream.subscribe(new FlatMapSubscriber<>(subscriber, mapper, maxConcurrency, prefetch));
+    }
+
+    private static class FlatMapSubscriber<I, O> extends MergeCoordinator<O> implements Flow.Subscriber<I> {
+
+        private final Function<I, Flow.Publisher<O>> mapper;
+        private final int maxConcurrency;
+        private final int limit;
+
+        // Completed inner publishers that have not been replenished from upstream yet
+        private final AtomicInteger completedInners = new AtomicInteger();
+
+        private Flow.Subscription upstreamSubscription;
+        private boolean done;
+
+        FlatMapSubscriber(Flow.Subscriber<? super O> downstream, Function<I, Flow.Publisher<O>> mapper,
+                int maxConcurrency, int prefetch) {
+            super(downstream, prefetch);
+            this.mapper = mapper;
+            this.maxConcurrency = maxConcurrency;
+            this.limit = Math.max(1, maxConcurrency - (maxConcurrency >> 2));
+        }
+
+        // ---- Subscriber
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.upstreamSubscription = subscription;
+            downstream().onSubscribe(this);
+            subscription.request((maxConcurrency == Integer.MAX_VALUE) ? Long.MAX_VALUE : maxConcurrency);
+        }
+
+        @Override
+        public void onNext(I item) {
+            if (done) {
+                return;
+            }
+            Flow.Publisher<O> publisher;
+            try {
+                publisher = mapper.apply(item);
+                if (publisher == null) {
+                    throw new NullPointerException("The mapper produced a null publisher for item " + item);
+                }
+            } catch (Throwable failure) {
+                done = true;
+                fail(failure);
+                return;
+            }
+            if (Scalars.isEmpty(publisher)) {
+                innerCompleted();
+                return;
+            }
+            O single = Scalars.singleItem(publisher);
+            if (single != null) {
+                emitScalar(single);
+                return;
+            }
+            Supplier<CompletionStage<O>> supplier = Scalars.completionStageSupplier(publisher);
+            if (supplier != null) {
+                CompletionStage<O> stage;
+                O value;
+                try {
+                    stage = supplier.get();
+                    value = Scalars.completedValue(stage);
+                } catch (Throwable failure) {
+                    done = true;
+                    fail(failure);
+                    return;
+                }
+                if (value != null) {
+                    emitScalar(value);
+                    return;
+                }
+                // Do not call the supplier again when subscribing
+                publisher = new CompletionStagePublisher<>(() -> stage);
+            }
+            subscribeInner(publisher);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            if (done) {
+                return;
+            }
+            done = true;
+            fail(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            if (done) {
+                return;
+            }
+            done = true;
+            sourcesCompleted();
+        }
+
+        // ---- Merge hooks
+
+        @Override
+        void innerCompleted() {
+            if (maxConcurrency == Integer.MAX_VALUE) {
+                return;
+            }
+            // Inner publishers may complete concurrently, so whoever sees a full batch claims it
+            int count = completedInners.incrementAndGet();
+            while (count >= limit) {
+                if (completedInners.compareAndSet(count, count - limit)) {
+                    upstreamSubscription.request(limit);
+                    return;
+                }
+                count = completedInners.get();
+            }
+        }
+
+        @Override
+        void cancelSources() {
+            upstreamSubscription.cancel();
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package mutiny.zero.operators;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import mutiny.zero.internal.Helper;
+
+/**
+ * Processor for a chain of adjacent {@link Transform} and {@link Select} operators.
+ * <p>
+ * When subscribing, the chain is collapsed into a single processor that applies each operator in turn, rather than
+ * having one processor per operator.
+ *
+ * @param <O> the output elements type
+ */
+class FusedProcessor<O> extends ProcessorBase<Object, O> {
+
+    // Each stage returns null when the item must not be forwarded
+    private final Function<Object, Object>[] stages;
+
+    // Upstream demand level below which the demand consumed by rejected items is replenished, -1 without Select
+    private final int lowWatermark;
+
+    // Total demand requested from upstream, including replenishments
+    private final AtomicLong requestedUpstream = new AtomicLong();
+
+    // Only accessed from onNext
+    private long received;
+    private long dropped;
+
+    private FusedProcessor(Function<Object, Object>[] stages, int lowWatermark) {
+        this.stages = stages;
+        this.lowWatermark = lowWatermark;
+    }
+
+    // Subscribes to the source of the chain of operators ending with the given publisher
+    @SuppressWarnings("unchecked")
+    static <O> void subscribe(Flow.Publisher<O> last, Flow.Subscriber<? super O> subscriber) {
+        ArrayDeque<Function<Object, Object>> stages = new ArrayDeque<>();
+        int lowWatermark = -1;
+        Flow.Publisher<?> source = last;
+        while (true) {
+            // Subclasses may override subscribe(), so they are not fused
+            if (source.getClass() == Transform.class) {
+                Transform<Object, Object> transform = (Transform<Object, Object>) source;
+                stages.addFirst(transform::apply);
+                source = transform.upstream;
+            } else if (source.getClass() == Select.class) {
+                Select<Object> select = (Select<Object>) source;
+                stages.addFirst(select::apply);
+                lowWatermark = Math.max(lowWatermark, select.lowWatermark);
+                source = select.upstream;
+            } else {
+                break;
+            }
+        }
+        FusedProcessor<O> processor = new FusedProcessor<>(stages.toArray(new Function[0]), lowWatermark);
+        processor.subscribe(subscriber);
+        ((Flow.Publisher<Object>) source).subscribe(processor);
+    }
+
+    @Override
+    public void request(long n) {
+        if (lowWatermark >= 0 && n > 0L) {
+            Helper.add(requestedUpstream, n);
+        }
+        super.request(n);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void onNext(Object item) {
+        if (!cancelled()) {
+            try {
+                Object current = item;
+                for (Function<Object, Object> stage : stages) {
+                    current = stage.apply(current);
+                    if (current == null) {
+                        break;
+                    }
+                }
+                if (current != null) {
+                    downstream().onNext((O) current);
+                } else {
+                    dropped++;
+                }
+                if (lowWatermark >= 0) {
+                    replenish();
+                }
+            } catch (Throwable failure) {
+                cancel();
+                downstream().onError(failure);
+            }
+        }
+    }
+
+    // Re-requests the demand consumed by dropped items in batches, when upstream is about to run out of demand
+    private void replenish() {
+        received++;
+        if (dropped == 0L) {
+            return;
+        }
+        long inFlight = requestedUpstream.get() - received;
+        if (inFlight <= 0L || (inFlight <= lowWatermark && dropped >= lowWatermark)) {
+            long n = dropped;
+            dropped = 0L;
+            request(n);
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package mutiny.zero.operators;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A {@link java.util.concurrent.Flow.Publisher} that merges the elements of several publishers as they arrive.
+ * <p>
+ * At most {@code maxConcurrency} publishers are subscribed at the same time, the next ones being subscribed as earlier
+ * ones complete.
+ * Each subscribed publisher has a bounded queue of {@code prefetch} elements that is replenished each time 75% of it
+ * has been consumed, and the downstream demand is spread fairly across publishers by taking one element from each of
+ * them in turn.
+ * <p>
+ * The merge fails as soon as one of the publishers fails, cancelling the other ones.
+ *
+ * @param <T> the elements type
+ */
+public class Merge<T> implements Flow.Publisher<T> {
+
+    /**
+     * The default number of elements prefetched from each publisher.
+     */
+    public static final int DEFAULT_PREFETCH = 256;
+
+    private final List<Flow.Publisher<T>> publishers;
+    private final int maxConcurrency;
+    private final int prefetch;
+
+    /**
+     * Build a new merge publisher that subscribes to all publishers at once, using the {@link #DEFAULT_PREFETCH default
+     * prefetch}.
+     *
+     * @param publishers the publishers to merge
+     */
+    public Merge(List<Flow.Publisher<T>> publishers) {
+        this(publishers, Integer.MAX_VALUE, DEFAULT_PREFETCH);
+    }
+
+    /**
+     * Build a new merge publisher.
+     *
+     * @param publishers the publishers to merge
+     * @param maxConcurrency the maximum number of publishers being subscribed at the same time, must be strictly positive
+     * @param prefetch the number of elements to prefetch from each publisher, must be in {@code [1, 65536]}
+     */
+    public Merge(List<Flow.Publisher<T>> publishers, int maxConcurrency, int prefetch) {
+        this.publishers = requireNonNull(publishers, "The publishers cannot be null");
+        if (maxConcurrency <= 0) {
+            throw new IllegalArgumentException("The maximum concurrency must be strictly positive: " + maxConcurrency);
+        }
+        if (prefetch <= 0 || prefetch > 65536) {
+            throw new IllegalArgumentException("The prefetch must be in [1, 65536]: " + prefetch);
+        }
+        this.maxConcurrency = maxConcurrency;
+        this.prefetch = prefetch;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super T> subscriber) {
+        requireNonNull(subscriber, "The subscriber cannot be null");
+        MergeSubscription<T> subscription = new MergeSubscription<>(subscriber, publishers.iterator(), prefetch);
+        subscriber.onSubscribe(subscription);
+        subscription.subscribeNext(maxConcurrency);
+    }
+
+    private static class MergeSubscription<T> extends MergeCoordinator<T> {
+
+        private final Iterator<Flow.Publisher<T>> iterator;
+
+        // Serializes the iteration over publishers
+        private final AtomicInteger pendingSubscriptions = new AtomicInteger();
+
+        // Only accessed by the thread that serializes the iteration
+        private int position;
+
+        MergeSubscription(Flow.Subscriber<? super T> downstream, Iterator<Flow.Publisher<T>> iterator, int prefetch) {
+            super(downstream, prefetch);
+            this.iterator = iterator;
+        }
+
+        @Override
+        void innerCompleted() {
+            subscribeNext(1);
+        }
+
+        @Override
+        void cancelSources() {
+            // Publishers are only subscribed while not cancelled
+        }
+
+        void subscribeNext(int count) {
+            if (pendingSubscriptions.getAndAdd(count) != 0) {
+                return;
+            }
+            int missed = count;
+            while (true) {
+                for (int i = 0; i < missed; i++) {
+                    if (isCancelled()) {
+                        return;
+                    }
+                    if (!iterator.hasNext()) {
+                        // The counter is never released, so no further iteration happens
+                        sourcesCompleted();
+                        return;
+                    }
+                    Flow.Publisher<T> publisher = iterator.next();
+                    if (publisher == null) {
+                        fail(new NullPointerException("The publisher at index " + position + " is null"));
+                        return;
+                    }
+                    position++;
+                    subscribeInner(publisher);
+                }
+                missed = pendingSubscriptions.addAndGet(-missed);
+                if (missed == 0) {
+                    return;
+                }
+            }
+        }
+    }
+}
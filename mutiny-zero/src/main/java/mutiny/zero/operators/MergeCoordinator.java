@@ -0,0 +1,398 @@
+package mutiny.zero.operators;
+
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import mutiny.zero.internal.Helper;
+import mutiny.zero.internal.SpscArrayQueue;
+import mutiny.zero.internal.SpscLinkedArrayQueue;
+
+/**
+ * Merges the elements of inner publishers into a downstream subscriber.
+ * <p>
+ * Each inner publisher gets a bounded queue that is filled by prefetching elements, and a single drain loop guarded by a
+ * work-in-progress counter emits elements to the downstream subscriber.
+ * The drain loop takes one element at a time from each inner publisher in a round-robin fashion, so the downstream
+ * demand is spread fairly across inner publishers.
+ * <p>
+ * Subclasses decide which inner publishers to subscribe to, and when no more inner publishers will be subscribed.
+ * Single values that are known without subscribing to a publisher can also be emitted, directly when there is demand
+ * and no concurrent drain, or through a shared queue otherwise.
+ *
+ * @param <T> the elements type
+ */
+abstract class MergeCoordinator<T> implements Flow.Subscription {
+
+    @SuppressWarnings("rawtypes")
+    private static final Inner[] EMPTY = new Inner[0];
+
+    @SuppressWarnings("rawtypes")
+    private static final Inner[] TERMINATED = new Inner[0];
+
+    private final Flow.Subscriber<? super T> downstream;
+    private final int prefetch;
+
+    @SuppressWarnings("unchecked")
+    private final AtomicReference<Inner<T>[]> inners = new AtomicReference<>(EMPTY);
+    private final AtomicInteger wip = new AtomicInteger();
+    private final AtomicLong requested = new AtomicLong();
+    private final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+    private volatile boolean cancelled;
+    private volatile boolean sourcesDone;
+
+    // Lazily created by the (single) thread that emits scalar values
+    private volatile SpscLinkedArrayQueue<T> scalars;
+
+    // Only accessed from the drain loop
+    private int index;
+
+    MergeCoordinator(Flow.Subscriber<? super T> downstream, int prefetch) {
+        this.downstream = downstream;
+        this.prefetch = prefetch;
+    }
+
+    // ---- Subclasses hooks
+
+    // Called from the drain loop when an inner publisher has terminated and all its elements have been emitted
+    abstract void innerCompleted();
+
+    // Called when the merge is cancelled or fails
+    abstract void cancelSources();
+
+    // ---- Subclasses API
+
+    Flow.Subscriber<? super T> downstream() {
+        return downstream;
+    }
+
+    boolean isCancelled() {
+        return cancelled || failure.get() != null;
+    }
+
+    void subscribeInner(Flow.Publisher<? extends T> publisher) {
+        Inner<T> inner = new Inner<>(this, prefetch);
+        if (add(inner)) {
+            publisher.subscribe(inner);
+        }
+    }
+
+    // Must not be called concurrently, counts as a completed inner publisher once emitted
+    void emitScalar(T item) {
+        if (isCancelled()) {
+            return;
+        }
+        if (wip.compareAndSet(0, 1)) {
+            long pending = requested.get();
+            SpscLinkedArrayQueue<T> queue = scalars;
+            if (pending != 0L && (queue == null || queue.isEmpty())) {
+                downstream.onNext(item);
+                if (pending != Long.MAX_VALUE) {
+                    requested.decrementAndGet();
+                }
+                innerCompleted();
+            } else {
+                scalarQueue().offer(item);
+            }
+            if (wip.decrementAndGet() != 0) {
+                drainLoop();
+            }
+        } else {
+            scalarQueue().offer(item);
+            drain();
+        }
+    }
+
+    private SpscLinkedArrayQueue<T> scalarQueue() {
+        SpscLinkedArrayQueue<T> queue = scalars;
+        if (queue == null) {
+            queue = new SpscLinkedArrayQueue<>();
+            scalars = queue;
+        }
+        return queue;
+    }
+
+    void sourcesCompleted() {
+        sourcesDone = true;
+        drain();
+    }
+
+    void fail(Throwable throwable) {
+        if (failure.compareAndSet(null, throwable)) {
+            cancelSources();
+            cancelInners();
+            drain();
+        }
+    }
+
+    // ---- Subscription
+
+    @Override
+    public void request(long n) {
+        if (n <= 0L) {
+            fail(Helper.negativeRequest(n));
+            return;
+        }
+        Helper.add(requested, n);
+        drain();
+    }
+
+    @Override
+    public void cancel() {
+        if (!cancelled) {
+            cancelled = true;
+            cancelSources();
+            Inner<T>[] array = cancelInners();
+            if (wip.getAndIncrement() == 0) {
+                clear(array);
+            }
+        }
+    }
+
+    // ---- Inner publishers tracking
+
+    private boolean add(Inner<T> inner) {
+        while (true) {
+            Inner<T>[] current = inners.get();
+            if (current == TERMINATED) {
+                inner.cancel();
+                return false;
+            }
+            int n = current.length;
+            @SuppressWarnings("unchecked")
+            Inner<T>[] update = new Inner[n + 1];
+            System.arraycopy(current, 0, update, 0, n);
+            update[n] = inner;
+            if (inners.compareAndSet(current, update)) {
+                return true;
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void remove(Inner<T> inner) {
+        while (true) {
+            Inner<T>[] current = inners.get();
+            int n = current.length;
+            int position = -1;
+            for (int i = 0; i < n; i++) {
+                if (current[i] == inner) {
+                    position = i;
+                    break;
+                }
+            }
+            if (position < 0) {
+                return;
+            }
+            Inner<T>[] update;
+            if (n == 1) {
+                update = EMPTY;
+            } else {
+                update = new Inner[n - 1];
+                System.arraycopy(current, 0, update, 0, position);
+                System.arraycopy(current, position + 1, update, position, n - position - 1);
+            }
+            if (inners.compareAndSet(current, update)) {
+                return;
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Inner<T>[] cancelInners() {
+        Inner<T>[] array = inners.getAndSet(TERMINATED);
+        for (Inner<T> inner : array) {
+            inner.cancel();
+        }
+        return array;
+    }
+
+    private void clear(Inner<T>[] array) {
+        for (Inner<T> inner : array) {
+            inner.queue.clear();
+        }
+        SpscLinkedArrayQueue<T> queue = scalars;
+        if (queue != null) {
+            queue.clear();
+        }
+    }
+
+    // ---- Drain
+
+    void drain() {
+        if (wip.getAndIncrement() == 0) {
+            drainLoop();
+        }
+    }
+
+    private void drainLoop() {
+        int missed = 1;
+        while (true) {
+            boolean completed = sourcesDone;
+            Inner<T>[] array = inners.get();
+            if (checkTerminated(array)) {
+                return;
+            }
+
+            long pending = requested.get();
+            long emitted = 0L;
+            SpscLinkedArrayQueue<T> queue = scalars;
+            if (queue != null) {
+                while (emitted != pending) {
+                    if (checkTerminated(array)) {
+                        return;
+                    }
+                    T item = queue.poll();
+                    if (item == null) {
+                        break;
+                    }
+                    downstream.onNext(item);
+                    emitted++;
+                    innerCompleted();
+                }
+            }
+            int n = array.length;
+            if (n > 0) {
+                int i = (index < n) ? index : 0;
+                int idle = 0;
+                while (emitted != pending && idle < n) {
+                    if (checkTerminated(array)) {
+                        return;
+                    }
+                    Inner<T> inner = array[i];
+                    if (++i == n) {
+                        i = 0;
+                    }
+                    T item = inner.queue.poll();
+                    if (item == null) {
+                        idle++;
+                        continue;
+                    }
+                    idle = 0;
+                    downstream.onNext(item);
+                    emitted++;
+                    inner.consumed();
+                }
+                index = i;
+            }
+            if (emitted != 0L && pending != Long.MAX_VALUE) {
+                requested.addAndGet(-emitted);
+            }
+
+            boolean removed = false;
+            for (Inner<T> inner : array) {
+                if (inner.done && inner.queue.isEmpty()) {
+                    remove(inner);
+                    removed = true;
+                    innerCompleted();
+                }
+            }
+            if (removed) {
+                // New inner publishers may have been subscribed
+                continue;
+            }
+
+            if (completed && array.length == 0 && (queue == null || queue.isEmpty())) {
+                if (checkTerminated(array)) {
+                    return;
+                }
+                cancelled = true;
+                downstream.onComplete();
+                return;
+            }
+
+            missed = wip.addAndGet(-missed);
+            if (missed == 0) {
+                return;
+            }
+        }
+    }
+
+    private boolean checkTerminated(Inner<T>[] array) {
+        if (cancelled) {
+            clear(array);
+            return true;
+        }
+        Throwable throwable = failure.get();
+        if (throwable != null) {
+            cancelled = true;
+            clear(array);
+            downstream.onError(throwable);
+            return true;
+        }
+        return false;
+    }
+
+    // ---- Inner subscriber
+
+    private static class Inner<T> implements Flow.Subscriber<T> {
+
+        private final MergeCoordinator<T> parent;
+        private final int prefetch;
+        private final int limit;
+        final SpscArrayQueue<T> queue;
+
+        private volatile Flow.Subscription subscription;
+        private volatile boolean cancelled;
+        volatile boolean done;
+
+        // Only accessed from the drain loop
+        private int consumed;
+
+        Inner(MergeCoordinator<T> parent, int prefetch) {
+            this.parent = parent;
+            this.prefetch = prefetch;
+            this.limit = prefetch - (prefetch >> 2);
+            this.queue = new SpscArrayQueue<>(prefetch);
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            if (cancelled) {
+                subscription.cancel();
+            } else {
+                subscription.request(prefetch);
+            }
+        }
+
+        @Override
+        public void onNext(T item) {
+            if (!queue.offer(item)) {
+                cancel();
+                parent.fail(new IllegalStateException(
+                        "An inner publisher sent more items than requested (prefetch = " + prefetch + ")"));
+                return;
+            }
+            parent.drain();
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            parent.fail(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            done = true;
+            parent.drain();
+        }
+
+        void consumed() {
+            if (++consumed == limit) {
+                consumed = 0;
+                subscription.request(limit);
+            }
+        }
+
+        void cancel() {
+            cancelled = true;
+            Flow.Subscription current = subscription;
+            if (current != null) {
+                current.cancel();
+            }
+        }
+    }
+}
@@ -0,0 +1,351 @@
+package mutiny.zero.operators;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import mutiny.zero.internal.Helper;
+
+/**
+ * A hot {@link java.util.concurrent.Flow.Publisher} that shares a single subscription to an upstream publisher between
+ * all of its subscribers.
+ * <p>
+ * The upstream publisher is subscribed to when the first subscriber arrives.
+ * Elements are written once into a ring buffer of {@code bufferSize} slots, and each subscriber reads them through its
+ * own cursor and at the pace of its own demand, so elements are never copied per subscriber.
+ * The slowest subscriber gates the upstream publisher: elements are requested from upstream only when every subscriber
+ * has room in the ring buffer, and requests are made in batches of 75% of the buffer size.
+ * <p>
+ * When there are no subscribers, no more elements are requested from upstream until a new subscriber arrives.
+ * <p>
+ * Subscribers only receive the elements emitted after they have subscribed, followed by the upstream terminal signal.
+ * Subscribers arriving after the upstream publisher has terminated only receive the terminal signal.
+ *
+ * @param <T> the elements type
+ */
+public class Multicast<T> implements Flow.Publisher<T> {
+
+    /**
+     * The maximum buffer size.
+     */
+    public static final int MAX_BUFFER_SIZE = 1 << 30;
+
+    @SuppressWarnings("rawtypes")
+    private static final MulticastSubscription[] EMPTY = new MulticastSubscription[0];
+
+    // Cursor of subscribers that are not ready to read from the ring buffer yet, ignored when gating upstream
+    private static final long UNSET = Long.MAX_VALUE;
+
+    private final Flow.Publisher<T> upstream;
+    private final int bufferSize;
+    private final int limit;
+    private final Object[] ring;
+    private final int mask;
+
+    private final AtomicBoolean connected = new AtomicBoolean();
+    @SuppressWarnings("unchecked")
+    private final AtomicReference<MulticastSubscription<T>[]> subscribers = new AtomicReference<>(EMPTY);
+    private final UpstreamSubscriber upstreamSubscriber = new UpstreamSubscriber();
+
+    // Number of elements written into the ring buffer
+    private volatile long tail;
+    private volatile boolean done;
+    private volatile Throwable failure;
+
+    // Total number of elements requested from upstream, updated by the (serialized) replenishment
+    private volatile long upstreamRequested;
+    private final AtomicInteger replenishWip = new AtomicInteger();
+    private volatile Flow.Subscription upstreamSubscription;
+
+    /**
+     * Build a new multicast publisher.
+     *
+     * @param upstream the upstream publisher
+     * @param bufferSize the number of elements a subscriber may lag behind the fastest one, must be in
+     *        {@code [1, MAX_BUFFER_SIZE]}
+     */
+    public Multicast(Flow.Publisher<T> upstream, int bufferSize) {
+        this.upstream = requireNonNull(upstream, "The upstream cannot be null");
+        if (bufferSize <= 0 || bufferSize > MAX_BUFFER_SIZE) {
+            throw new IllegalArgumentException("The buffer size must be in [1, " + MAX_BUFFER_SIZE + "]: " + bufferSize);
+        }
+        this.bufferSize = bufferSize;
+        this.limit = bufferSize - (bufferSize >> 2);
+        int capacity = 1;
+        while (capacity < bufferSize) {
+            capacity <<= 1;
+        }
+        this.ring = new Object[capacity];
+        this.mask = capacity - 1;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super T> subscriber) {
+        requireNonNull(subscriber, "The subscriber cannot be null");
+        MulticastSubscription<T> subscription = new MulticastSubscription<>(this, subscriber);
+        add(subscription);
+        subscriber.onSubscribe(subscription);
+        // Reading the tail after being visible to the replenishment guarantees the slot is not overwritten, and
+        // setting the cursor after onSubscribe guarantees no signal is sent before
+        subscription.cursor = tail;
+        if (connected.compareAndSet(false, true)) {
+            upstream.subscribe(upstreamSubscriber);
+        } else {
+            replenish();
+        }
+        subscription.drain();
+    }
+
+    // ---- Subscribers tracking
+
+    private void add(MulticastSubscription<T> subscription) {
+        while (true) {
+            MulticastSubscription<T>[] current = subscribers.get();
+            int n = current.length;
+            @SuppressWarnings("unchecked")
+            MulticastSubscription<T>[] update = new MulticastSubscription[n + 1];
+            System.arraycopy(current, 0, update, 0, n);
+            update[n] = subscription;
+            if (subscribers.compareAndSet(current, update)) {
+                return;
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void remove(MulticastSubscription<T> subscription) {
+        while (true) {
+            MulticastSubscription<T>[] current = subscribers.get();
+            int n = current.length;
+            int position = -1;
+            for (int i = 0; i < n; i++) {
+                if (current[i] == subscription) {
+                    position = i;
+                    break;
+                }
+            }
+            if (position < 0) {
+                return;
+            }
+            MulticastSubscription<T>[] update;
+            if (n == 1) {
+                update = EMPTY;
+            } else {
+                update = new MulticastSubscription[n - 1];
+                System.arraycopy(current, 0, update, 0, position);
+                System.arraycopy(current, position + 1, update, position, n - position - 1);
+            }
+            if (subscribers.compareAndSet(current, update)) {
+                // The slowest subscriber may have left
+                replenish();
+                return;
+            }
+        }
+    }
+
+    // ---- Upstream demand
+
+    private void replenish() {
+        if (replenishWip.getAndIncrement() != 0) {
+            return;
+        }
+        int missed = 1;
+        while (true) {
+            Flow.Subscription subscription = upstreamSubscription;
+            MulticastSubscription<T>[] current = subscribers.get();
+            // Without subscribers the upstream publisher is paused until one arrives
+            if (subscription != null && !done && current.length != 0) {
+                long slowest = tail;
+                for (MulticastSubscription<T> subscriber : current) {
+                    slowest = Math.min(slowest, subscriber.cursor);
+                }
+                long allowed = slowest + bufferSize;
+                long requested = upstreamRequested;
+                if (allowed - requested >= limit) {
+                    upstreamRequested = allowed;
+                    subscription.request(allowed - requested);
+                }
+            }
+            missed = replenishWip.addAndGet(-missed);
+            if (missed == 0) {
+                return;
+            }
+        }
+    }
+
+    private void drainAll() {
+        for (MulticastSubscription<T> subscription : subscribers.get()) {
+            subscription.drain();
+        }
+    }
+
+    // ---- Upstream subscriber
+
+    private class UpstreamSubscriber implements Flow.Subscriber<T> {
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            upstreamRequested = bufferSize;
+            upstreamSubscription = subscription;
+            subscription.request(bufferSize);
+        }
+
+        @Override
+        public void onNext(T item) {
+            if (done) {
+                return;
+            }
+            long index = tail;
+            if (index == upstreamRequested) {
+                upstreamSubscription.cancel();
+                onError(new IllegalStateException(
+                        "The upstream publisher sent more items than requested (buffer size = " + bufferSize + ")"));
+                return;
+            }
+            ring[(int) index & mask] = item;
+            tail = index + 1;
+            drainAll();
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            if (done) {
+                return;
+            }
+            failure = throwable;
+            done = true;
+            drainAll();
+        }
+
+        @Override
+        public void onComplete() {
+            if (done) {
+                return;
+            }
+            done = true;
+            drainAll();
+        }
+    }
+
+    // ---- Subscriptions
+
+    private static class MulticastSubscription<T> implements Flow.Subscription {
+
+        private final Multicast<T> parent;
+        private final Flow.Subscriber<? super T> downstream;
+
+        private final AtomicInteger wip = new AtomicInteger();
+        private final AtomicLong requested = new AtomicLong();
+        private volatile boolean cancelled;
+        private volatile Throwable requestFailure;
+
+        // Position of the next element to read, written by the drain loop and read when gating upstream
+        volatile long cursor = UNSET;
+
+        MulticastSubscription(Multicast<T> parent, Flow.Subscriber<? super T> downstream) {
+            this.parent = parent;
+            this.downstream = downstream;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0L) {
+                requestFailure = Helper.negativeRequest(n);
+            } else {
+                Helper.add(requested, n);
+            }
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            if (!cancelled) {
+                cancelled = true;
+                parent.remove(this);
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        void drain() {
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+            int missed = 1;
+            Object[] ring = parent.ring;
+            int mask = parent.mask;
+            while (true) {
+                long position = cursor;
+                if (position == UNSET) {
+                    // Not subscribed yet, the subscription drains once its cursor is set
+                    missed = wip.addAndGet(-missed);
+                    if (missed == 0) {
+                        return;
+                    }
+                    continue;
+                }
+                long pending = requested.get();
+                long emitted = 0L;
+                while (true) {
+                    if (checkTerminated()) {
+                        return;
+                    }
+                    boolean terminated = parent.done;
+                    long available = parent.tail;
+                    if (position == available) {
+                        if (terminated) {
+                            terminate();
+                            return;
+                        }
+                        break;
+                    }
+                    if (emitted == pending) {
+                        break;
+                    }
+                    T item = (T) ring[(int) position & mask];
+                    downstream.onNext(item);
+                    position++;
+                    emitted++;
+                }
+                if (emitted != 0L) {
+                    cursor = position;
+                    if (pending != Long.MAX_VALUE) {
+                        requested.addAndGet(-emitted);
+                    }
+                    parent.replenish();
+                }
+                missed = wip.addAndGet(-missed);
+                if (missed == 0) {
+                    return;
+                }
+            }
+        }
+
+        private boolean checkTerminated() {
+            if (cancelled) {
+                return true;
+            }
+            Throwable throwable = requestFailure;
+            if (throwable != null) {
+                cancel();
+                downstream.onError(throwable);
+                return true;
+            }
+            return false;
+        }
+
+        private void terminate() {
+            cancelled = true;
+            parent.remove(this);
+            Throwable throwable = parent.failure;
+            if (throwable != null) {
+                downstream.onError(throwable);
+            } else {
+                downstream.onComplete();
+            }
+        }
+    }
+}
@@ -0,0 +1,237 @@
+package mutiny.zero.operators;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import mutiny.zero.internal.Helper;
+import mutiny.zero.internal.SpscArrayQueue;
+
+/**
+ * A {@link java.util.concurrent.Flow.Publisher} that dispatches the signals of an upstream publisher to subscribers on
+ * an {@link Executor}.
+ * <p>
+ * Elements are prefetched from upstream into a bounded queue, and they are drained in batches by a task running on the
+ * executor, so at most one task at a time runs for a given subscriber.
+ * The upstream demand is replenished each time 75% of the prefetched elements have been consumed.
+ * <p>
+ * Failures are forwarded as soon as possible, discarding elements that have not been delivered yet.
+ *
+ * @param <T> the elements type
+ */
+public class ObserveOn<T> implements Flow.Publisher<T> {
+
+    /**
+     * The default number of prefetched elements.
+     */
+    public static final int DEFAULT_PREFETCH = 256;
+
+    private final Flow.Publisher<T> upstream;
+    private final Executor executor;
+    private final int prefetch;
+
+    /**
+     * Build a new publisher that observes signals on an executor, using the {@link #DEFAULT_PREFETCH default prefetch}.
+     *
+     * @param upstream the upstream publisher
+     * @param executor the executor to dispatch signals to subscribers
+     */
+    public ObserveOn(Flow.Publisher<T> upstream, Executor executor) {
+        this(upstream, executor, DEFAULT_PREFETCH);
+    }
+
+    /**
+     * Build a new publisher that observes signals on an executor.
+     *
+     * @param upstream the upstream publisher
+     * @param executor the executor to dispatch signals to subscribers
+     * @param prefetch the number of elements to prefetch from upstream, must be in {@code [1, 65536]}
+     */
+    public ObserveOn(Flow.Publisher<T> upstream, Executor executor, int prefetch) {
+        this.upstream = requireNonNull(upstream, "The upstream cannot be null");
+        this.executor = requireNonNull(executor, "The executor cannot be null");
+        if (prefetch <= 0 || prefetch > 65536) {
+            throw new IllegalArgumentException("The prefetch must be in [1, 65536]: " + prefetch);
+        }
+        this.prefetch = prefetch;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super T> subscriber) {
+        requireNonNull(subscriber, "The subscriber cannot be null");
+        upstream.subscribe(new ObserveOnProcessor<>(subscriber, executor, prefetch));
+    }
+
+    private static class ObserveOnProcessor<T> implements Flow.Subscriber<T>, Flow.Subscription, Runnable {
+
+        private final Flow.Subscriber<? super T> downstream;
+        private final Executor executor;
+        private final int prefetch;
+        private final int limit;
+        private final SpscArrayQueue<T> queue;
+
+        private final AtomicInteger wip = new AtomicInteger();
+        private final AtomicLong requested = new AtomicLong();
+
+        private Flow.Subscription upstreamSubscription;
+        private volatile boolean done;
+        private volatile boolean cancelled;
+        private Throwable failure;
+
+        // Only accessed from the drain loop
+        private long emitted;
+        private int consumed;
+
+        ObserveOnProcessor(Flow.Subscriber<? super T> downstream, Executor executor, int prefetch) {
+            this.downstream = downstream;
+            this.executor = executor;
+            this.prefetch = prefetch;
+            this.limit = prefetch - (prefetch >> 2);
+            this.queue = new SpscArrayQueue<>(prefetch);
+        }
+
+        // ---- Subscriber
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.upstreamSubscription = subscription;
+            downstream.onSubscribe(this);
+            subscription.request(prefetch);
+        }
+
+        @Override
+        public void onNext(T item) {
+            if (done) {
+                return;
+            }
+            if (!queue.offer(item)) {
+                upstreamSubscription.cancel();
+                onError(new IllegalStateException(
+                        "The upstream publisher sent more items than requested (prefetch = " + prefetch + ")"));
+                return;
+            }
+            schedule();
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            if (done) {
+                return;
+            }
+            failure = throwable;
+            done = true;
+            schedule();
+        }
+
+        @Override
+        public void onComplete() {
+            if (done) {
+                return;
+            }
+            done = true;
+            schedule();
+        }
+
+        // ---- Subscription
+
+        @Override
+        public void request(long n) {
+            if (n <= 0L) {
+                // Upstream may have terminated already, so the failure takes precedence over its terminal signal
+                upstreamSubscription.cancel();
+                failure = Helper.negativeRequest(n);
+                done = true;
+                schedule();
+                return;
+            }
+            Helper.add(requested, n);
+            schedule();
+        }
+
+        @Override
+        public void cancel() {
+            if (!cancelled) {
+                cancelled = true;
+                upstreamSubscription.cancel();
+                if (wip.getAndIncrement() == 0) {
+                    queue.clear();
+                }
+            }
+        }
+
+        // ---- Drain
+
+        private void schedule() {
+            if (wip.getAndIncrement() == 0) {
+                try {
+                    executor.execute(this);
+                } catch (RejectedExecutionException rejection) {
+                    // No drain task can run, so this thread still owns the work-in-progress
+                    cancelled = true;
+                    upstreamSubscription.cancel();
+                    queue.clear();
+                    downstream.onError(rejection);
+                }
+            }
+        }
+
+        @Override
+        public void run() {
+            int missed = 1;
+            long emitted = this.emitted;
+            while (true) {
+                long pending = requested.get();
+                while (emitted != pending) {
+                    boolean terminated = done;
+                    T item = queue.poll();
+                    if (checkTerminated(terminated, item == null)) {
+                        return;
+                    }
+                    if (item == null) {
+                        break;
+                    }
+                    downstream.onNext(item);
+                    emitted++;
+                    if (++consumed == limit) {
+                        consumed = 0;
+                        upstreamSubscription.request(limit);
+                    }
+                }
+                if (emitted == pending && checkTerminated(done, queue.isEmpty())) {
+                    return;
+                }
+                this.emitted = emitted;
+                missed = wip.addAndGet(-missed);
+                if (missed == 0) {
+                    return;
+                }
+            }
+        }
+
+        private boolean checkTerminated(boolean terminated, boolean empty) {
+            if (cancelled) {
+                queue.clear();
+                return true;
+            }
+            if (terminated) {
+                Throwable failure = this.failure;
+                if (failure != null) {
+                    cancelled = true;
+                    queue.clear();
+                    downstream.onError(failure);
+                    return true;
+                }
+                if (empty) {
+                    cancelled = true;
+                    downstream.onComplete();
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
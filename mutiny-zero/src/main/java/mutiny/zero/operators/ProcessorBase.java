@@ -52,8 +52,9 @@ abstract class ProcessorBase<I, O> implements Flow.Processor<I, O>, Flow.Subscri
 
     @Override
     public void request(long n) {
-        if (!cancelled()) {
-            upstreamSubscription.request(n);
+        Flow.Subscription subscription = upstreamSubscription;
+        if (!cancelled() && subscription != null) {
+            subscription.request(n);
         }
     }
 
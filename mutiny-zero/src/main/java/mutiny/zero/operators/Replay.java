@@ -0,0 +1,402 @@
+package mutiny.zero.operators;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import mutiny.zero.internal.Helper;
+
+/**
+ * A {@link java.util.concurrent.Flow.Publisher} that subscribes once to an upstream publisher, caches its elements, and
+ * replays them to each subscriber before the live elements.
+ * <p>
+ * The upstream publisher is subscribed to when the first subscriber arrives.
+ * The slowest subscriber gates the upstream publisher: it is requested elements in batches of at most
+ * {@link #PREFETCH}, up to the position that every subscriber has requested, so it is paused while a subscriber has no
+ * outstanding demand, and while there are no subscribers.
+ * The cache keeps at most {@code maxItems} elements, and elements are evicted once they are older than a time-to-live.
+ * The upstream terminal signal is cached too, so subscribers arriving after it replay the cached elements followed by
+ * the terminal signal.
+ * <p>
+ * Elements are stored once in a linked list that subscribers walk at the pace of their own demand: evicting elements
+ * never discards elements that a slow subscriber has not received yet, and since subscribers cannot lag much behind
+ * the upstream publisher, about {@code maxItems + PREFETCH} elements are retained at most.
+ *
+ * @param <T> the elements type
+ */
+public class Replay<T> implements Flow.Publisher<T> {
+
+    /**
+     * The maximum number of elements requested from upstream and not received yet.
+     */
+    public static final int PREFETCH = 256;
+
+    private static final int LIMIT = PREFETCH - (PREFETCH >> 2);
+
+    @SuppressWarnings("rawtypes")
+    private static final ReplaySubscription[] EMPTY = new ReplaySubscription[0];
+
+    private final Flow.Publisher<T> upstream;
+    private final int maxItems;
+    private final long ttlNanos;
+
+    private final AtomicBoolean connected = new AtomicBoolean();
+    @SuppressWarnings("unchecked")
+    private final AtomicReference<ReplaySubscription<T>[]> subscribers = new AtomicReference<>(EMPTY);
+    private final UpstreamSubscriber upstreamSubscriber = new UpstreamSubscriber();
+
+    // The head is a sentinel node, the cached elements start at its successor
+    private volatile Node<T> head = new Node<>(null, -1L, 0L);
+    private volatile boolean done;
+    private volatile Throwable failure;
+
+    // Only accessed from the upstream subscriber
+    private Node<T> tail = head;
+    private int size;
+    private volatile long produced;
+
+    // Number of elements requested from upstream, only accessed from the (serialized) replenishment
+    private final AtomicInteger replenishWip = new AtomicInteger();
+    private volatile Flow.Subscription upstreamSubscription;
+    private long upstreamRequested;
+
+    /**
+     * Build a new replay publisher.
+     *
+     * @param upstream the upstream publisher
+     * @param maxItems the maximum number of cached elements, must be strictly positive
+     * @param ttl the time-to-live of cached elements, must be strictly positive
+     */
+    public Replay(Flow.Publisher<T> upstream, int maxItems, Duration ttl) {
+        this.upstream = requireNonNull(upstream, "The upstream cannot be null");
+        if (maxItems <= 0) {
+            throw new IllegalArgumentException("The maximum number of items must be strictly positive: " + maxItems);
+        }
+        requireNonNull(ttl, "The time-to-live cannot be null");
+        if (ttl.isZero() || ttl.isNegative()) {
+            throw new IllegalArgumentException("The time-to-live must be strictly positive: " + ttl);
+        }
+        this.maxItems = maxItems;
+        this.ttlNanos = Helper.toNanos(ttl);
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super T> subscriber) {
+        requireNonNull(subscriber, "The subscriber cannot be null");
+        ReplaySubscription<T> subscription = new ReplaySubscription<>(this, subscriber);
+        add(subscription);
+        subscriber.onSubscribe(subscription);
+        // Setting the start node after onSubscribe guarantees no signal is sent before
+        Node<T> start = firstLiveNode();
+        subscription.node = start;
+        Helper.add(subscription.wanted, start.index + 1L);
+        if (connected.compareAndSet(false, true)) {
+            upstream.subscribe(upstreamSubscriber);
+        } else {
+            replenish();
+        }
+        subscription.drain();
+    }
+
+    private Node<T> firstLiveNode() {
+        // Expired elements are only evicted when new elements arrive, so skip them
+        long now = System.nanoTime();
+        Node<T> node = head;
+        Node<T> next = node.next;
+        while (next != null && isExpired(next, now)) {
+            node = next;
+            next = node.next;
+        }
+        return node;
+    }
+
+    private boolean isExpired(Node<T> node, long now) {
+        return now - node.timestamp >= ttlNanos;
+    }
+
+    // ---- Subscribers tracking
+
+    private void add(ReplaySubscription<T> subscription) {
+        while (true) {
+            ReplaySubscription<T>[] current = subscribers.get();
+            int n = current.length;
+            @SuppressWarnings("unchecked")
+            ReplaySubscription<T>[] update = new ReplaySubscription[n + 1];
+            System.arraycopy(current, 0, update, 0, n);
+            update[n] = subscription;
+            if (subscribers.compareAndSet(current, update)) {
+                return;
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void remove(ReplaySubscription<T> subscription) {
+        while (true) {
+            ReplaySubscription<T>[] current = subscribers.get();
+            int n = current.length;
+            int position = -1;
+            for (int i = 0; i < n; i++) {
+                if (current[i] == subscription) {
+                    position = i;
+                    break;
+                }
+            }
+            if (position < 0) {
+                return;
+            }
+            ReplaySubscription<T>[] update;
+            if (n == 1) {
+                update = EMPTY;
+            } else {
+                update = new ReplaySubscription[n - 1];
+                System.arraycopy(current, 0, update, 0, position);
+                System.arraycopy(current, position + 1, update, position, n - position - 1);
+            }
+            if (subscribers.compareAndSet(current, update)) {
+                // The slowest subscriber may have left
+                replenish();
+                return;
+            }
+        }
+    }
+
+    // ---- Upstream demand
+
+    private void replenish() {
+        if (replenishWip.getAndIncrement() != 0) {
+            return;
+        }
+        int missed = 1;
+        while (true) {
+            Flow.Subscription subscription = upstreamSubscription;
+            ReplaySubscription<T>[] current = subscribers.get();
+            // Without subscribers the upstream publisher is paused until one arrives
+            if (subscription != null && !done && current.length != 0) {
+                long slowest = Long.MAX_VALUE;
+                for (ReplaySubscription<T> subscriber : current) {
+                    slowest = Math.min(slowest, subscriber.wanted.get());
+                }
+                long requested = upstreamRequested;
+                long target = Math.min(slowest, produced + PREFETCH);
+                if (target - requested >= LIMIT || (target == slowest && target > requested)) {
+                    upstreamRequested = target;
+                    subscription.request(target - requested);
+                }
+            }
+            missed = replenishWip.addAndGet(-missed);
+            if (missed == 0) {
+                return;
+            }
+        }
+    }
+
+    private void drainAll() {
+        for (ReplaySubscription<T> subscription : subscribers.get()) {
+            subscription.drain();
+        }
+    }
+
+    // ---- Cached elements
+
+    private static class Node<T> {
+
+        final T item;
+        final long index;
+        final long timestamp;
+        volatile Node<T> next;
+
+        Node(T item, long index, long timestamp) {
+            this.item = item;
+            this.index = index;
+            this.timestamp = timestamp;
+        }
+    }
+
+    // ---- Upstream subscriber
+
+    private class UpstreamSubscriber implements Flow.Subscriber<T> {
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            upstreamSubscription = subscription;
+            replenish();
+        }
+
+        @Override
+        public void onNext(T item) {
+            if (done) {
+                return;
+            }
+            long now = System.nanoTime();
+            Node<T> node = new Node<>(item, tail.index + 1L, now);
+            tail.next = node;
+            tail = node;
+            size++;
+            produced = node.index + 1L;
+            evict(now);
+            drainAll();
+            replenish();
+        }
+
+        private void evict(long now) {
+            // Subscribers still referencing older nodes are not affected by moving the sentinel
+            Node<T> current = head;
+            while (size > maxItems) {
+                current = current.next;
+                size--;
+            }
+            Node<T> next = current.next;
+            while (next != null && isExpired(next, now)) {
+                current = next;
+                next = current.next;
+                size--;
+            }
+            if (current != head) {
+                // The last evicted node is replaced rather than reused as the sentinel, so its item can be collected
+                Node<T> sentinel = new Node<>(null, current.index, current.timestamp);
+                sentinel.next = current.next;
+                head = sentinel;
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            if (done) {
+                return;
+            }
+            failure = throwable;
+            done = true;
+            drainAll();
+        }
+
+        @Override
+        public void onComplete() {
+            if (done) {
+                return;
+            }
+            done = true;
+            drainAll();
+        }
+    }
+
+    // ---- Subscriptions
+
+    private static class ReplaySubscription<T> implements Flow.Subscription {
+
+        private final Replay<T> parent;
+        private final Flow.Subscriber<? super T> downstream;
+
+        private final AtomicInteger wip = new AtomicInteger();
+        private final AtomicLong requested = new AtomicLong();
+        private volatile boolean cancelled;
+        private volatile Throwable requestFailure;
+
+        // Position in the upstream sequence up to which elements have been requested
+        final AtomicLong wanted = new AtomicLong();
+
+        // Last node delivered to the subscriber, null until the subscription is ready to replay
+        volatile Node<T> node;
+
+        ReplaySubscription(Replay<T> parent, Flow.Subscriber<? super T> downstream) {
+            this.parent = parent;
+            this.downstream = downstream;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0L) {
+                requestFailure = Helper.negativeRequest(n);
+            } else {
+                Helper.add(requested, n);
+                Helper.add(wanted, n);
+                parent.replenish();
+            }
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            if (!cancelled) {
+                cancelled = true;
+                parent.remove(this);
+            }
+        }
+
+        void drain() {
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+            int missed = 1;
+            while (true) {
+                Node<T> current = node;
+                if (current != null) {
+                    long pending = requested.get();
+                    long emitted = 0L;
+                    while (true) {
+                        if (checkTerminated()) {
+                            return;
+                        }
+                        boolean terminated = parent.done;
+                        Node<T> next = current.next;
+                        if (next == null) {
+                            if (terminated) {
+                                terminate();
+                                return;
+                            }
+                            break;
+                        }
+                        if (emitted == pending) {
+                            break;
+                        }
+                        downstream.onNext(next.item);
+                        current = next;
+                        emitted++;
+                    }
+                    if (emitted != 0L) {
+                        node = current;
+                        if (pending != Long.MAX_VALUE) {
+                            requested.addAndGet(-emitted);
+                        }
+                    }
+                }
+                missed = wip.addAndGet(-missed);
+                if (missed == 0) {
+                    return;
+                }
+            }
+        }
+
+        private boolean checkTerminated() {
+            if (cancelled) {
+                node = null;
+                return true;
+            }
+            Throwable throwable = requestFailure;
+            if (throwable != null) {
+                cancel();
+                node = null;
+                downstream.onError(throwable);
+                return true;
+            }
+            return false;
+        }
+
+        private void terminate() {
+            cancelled = true;
+            node = null;
+            parent.remove(this);
+            Throwable throwable = parent.failure;
+            if (throwable != null) {
+                downstream.onError(throwable);
+            } else {
+                downstream.onComplete();
+            }
+        }
+    }
+}
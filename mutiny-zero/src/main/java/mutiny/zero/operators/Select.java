@@ -7,47 +7,62 @@ import java.util.function.Predicate;
 
 /**
  * A {@link java.util.concurrent.Flow.Publisher} that selects elements matching a {@link Predicate}.
+ * <p>
+ * The demand consumed by elements that do not match the predicate is requested again from the upstream publisher, so
+ * subscribers get as many elements as they request.
+ * To avoid one request per rejected element, rejected elements are accounted for, and they are requested again in a
+ * single batch once at least a low watermark of them have been rejected and the outstanding upstream demand has fallen
+ * to that watermark, or when the upstream demand has been exhausted.
+ * <p>
+ * Adjacent {@link Select} and {@link Transform} operators are fused into a single processor when subscribing.
  *
  * @param <T> the elements type
  */
 public class Select<T> implements Flow.Publisher<T> {
 
-    private final Flow.Publisher<T> upstream;
+    /**
+     * The default low watermark.
+     */
+    public static final int DEFAULT_LOW_WATERMARK = 16;
+
+    final Flow.Publisher<T> upstream;
     private final Predicate<T> predicate;
+    final int lowWatermark;
 
     /**
-     * Build a new selection publisher.
+     * Build a new selection publisher with the {@link #DEFAULT_LOW_WATERMARK default low watermark}.
      *
      * @param upstream the upstream publisher
      * @param predicate the predicate to select the elements forwarded to subscribers, must not throw exceptions
      */
     public Select(Flow.Publisher<T> upstream, Predicate<T> predicate) {
+        this(upstream, predicate, DEFAULT_LOW_WATERMARK);
+    }
+
+    /**
+     * Build a new selection publisher.
+     *
+     * @param upstream the upstream publisher
+     * @param predicate the predicate to select the elements forwarded to subscribers, must not throw exceptions
+     * @param lowWatermark the outstanding upstream demand at or below which the demand consumed by rejected elements is
+     *        requested again in a batch, must be positive or zero
+     */
+    public Select(Flow.Publisher<T> upstream, Predicate<T> predicate, int lowWatermark) {
         this.upstream = requireNonNull(upstream, "The upstream cannot be null");
         this.predicate = requireNonNull(predicate, "The predicate cannot be null");
+        if (lowWatermark < 0) {
+            throw new IllegalArgumentException("The low watermark must be positive or zero");
+        }
+        this.lowWatermark = lowWatermark;
     }
 
     @Override
     public void subscribe(Flow.Subscriber<? super T> subscriber) {
         requireNonNull(subscriber, "The subscriber cannot be null");
-        Processor processor = new Processor();
-        processor.subscribe(subscriber);
-        upstream.subscribe(processor);
+        FusedProcessor.subscribe(this, subscriber);
     }
 
-    private class Processor extends ProcessorBase<T, T> {
-
-        @Override
-        public void onNext(T item) {
-            if (!cancelled()) {
-                try {
-                    if (predicate.test(item)) {
-                        downstream().onNext(item);
-                    }
-                } catch (Throwable failure) {
-                    cancel();
-                    downstream().onError(failure);
-                }
-            }
-        }
+    T apply(T item) {
+        return predicate.test(item) ? item : null;
     }
 }
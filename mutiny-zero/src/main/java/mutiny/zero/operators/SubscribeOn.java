@@ -0,0 +1,115 @@
+package mutiny.zero.operators;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import mutiny.zero.internal.AlreadyCompletedSubscription;
+import mutiny.zero.internal.Helper;
+
+/**
+ * A {@link java.util.concurrent.Flow.Publisher} that subscribes to an upstream publisher and requests elements from it
+ * on an {@link Executor}.
+ * <p>
+ * This is useful to offload publishers that emit elements synchronously from {@code request(n)}, such as publishers
+ * backed by blocking iterators or generators, from the threads that request elements.
+ * <p>
+ * Requests are serialized: concurrent requests are coalesced, and at most one task at a time runs on the executor for
+ * a given subscriber, so requests are forwarded upstream in order and never concurrently.
+ *
+ * @param <T> the elements type
+ */
+public class SubscribeOn<T> implements Flow.Publisher<T> {
+
+    private final Flow.Publisher<T> upstream;
+    private final Executor executor;
+
+    /**
+     * Build a new publisher that subscribes on an executor.
+     *
+     * @param upstream the upstream publisher
+     * @param executor the executor to subscribe and request elements on
+     */
+    public SubscribeOn(Flow.Publisher<T> upstream, Executor executor) {
+        this.upstream = requireNonNull(upstream, "The upstream cannot be null");
+        this.executor = requireNonNull(executor, "The executor cannot be null");
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super T> subscriber) {
+        requireNonNull(subscriber, "The subscriber cannot be null");
+        SubscribeOnProcessor<T> processor = new SubscribeOnProcessor<>(subscriber, executor);
+        try {
+            executor.execute(() -> upstream.subscribe(processor));
+        } catch (RejectedExecutionException rejection) {
+            subscriber.onSubscribe(new AlreadyCompletedSubscription());
+            subscriber.onError(rejection);
+        }
+    }
+
+    private static class SubscribeOnProcessor<T> extends ProcessorBase<T, T> implements Runnable {
+
+        private final Executor executor;
+
+        private final AtomicInteger wip = new AtomicInteger();
+        private final AtomicLong requested = new AtomicLong();
+        // Non-positive once an invalid request has been made
+        private volatile long invalidRequest = 1L;
+
+        SubscribeOnProcessor(Flow.Subscriber<? super T> downstream, Executor executor) {
+            this.executor = executor;
+            subscribe(downstream);
+        }
+
+        @Override
+        public void onNext(T item) {
+            if (!cancelled()) {
+                downstream().onNext(item);
+            }
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0L) {
+                // Let the upstream publisher signal the violation from the executor
+                invalidRequest = n;
+            } else {
+                Helper.add(requested, n);
+            }
+            if (wip.getAndIncrement() == 0) {
+                try {
+                    executor.execute(this);
+                } catch (RejectedExecutionException rejection) {
+                    if (!cancelled()) {
+                        cancel();
+                        downstream().onError(rejection);
+                    }
+                }
+            }
+        }
+
+        @Override
+        public void run() {
+            int missed = 1;
+            while (true) {
+                long invalid = invalidRequest;
+                if (invalid <= 0L) {
+                    super.request(invalid);
+                    return;
+                }
+                long n = requested.getAndSet(0L);
+                if (n > 0L) {
+                    super.request(n);
+                }
+                missed = wip.addAndGet(-missed);
+                if (missed == 0) {
+                    return;
+                }
+            }
+        }
+    }
+}
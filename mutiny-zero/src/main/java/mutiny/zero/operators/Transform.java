@@ -7,13 +7,16 @@ import java.util.function.Function;
 
 /**
  * A {@link java.util.concurrent.Flow.Publisher} that transforms elements using a {@link Function}.
+ * <p>
+ * Adjacent {@link Transform} and {@link Select} operators are fused into a single processor when subscribing.
  *
  * @param <I> the input elements type
  * @param <O> the output elements type
  */
 public class Transform<I, O> implements Flow.Publisher<O> {
 
-    private final Flow.Publisher<I> upstream;
+    // Read by FusedProcessor when collapsing a chain of operators
+    final Flow.Publisher<I> upstream;
     private final Function<I, O> function;
 
     /**
@@ -24,34 +27,20 @@ public class Transform<I, O> implements Flow.Publisher<O> {
      */
     public Transform(Flow.Publisher<I> upstream, Function<I, O> function) {
         this.upstream = requireNonNull(upstream, "The upstream cannot be null");
-        ;
         this.function = requireNonNull(function, "The function cannot be null");
     }
 
     @Override
     public void subscribe(Flow.Subscriber<? super O> subscriber) {
         requireNonNull(subscriber, "The subscriber cannot be null");
-        Processor processor = new Processor();
-        processor.subscribe(subscriber);
-        upstream.subscribe(processor);
+        FusedProcessor.subscribe(this, subscriber);
     }
 
-    private class Processor extends ProcessorBase<I, O> {
-
-        @Override
-        public void onNext(I item) {
-            if (!cancelled()) {
-                try {
-                    O result = function.apply(item);
-                    if (result == null) {
-                        throw new NullPointerException("The function produced a null result for item " + item);
-                    }
-                    downstream().onNext(result);
-                } catch (Throwable failure) {
-                    cancel();
-                    downstream().onError(failure);
-                }
-            }
+    O apply(I item) {
+        O result = function.apply(item);
+        if (result == null) {
+            throw new NullPointerException("The function produced a null result for item " + item);
         }
+        return result;
     }
 }
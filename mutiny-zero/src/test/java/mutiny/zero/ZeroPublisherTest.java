@@ -1,23 +1,44 @@
 package mutiny.zero;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.awaitility.Awaitility.await;
 
 import java.io.IOException;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.LinkedList;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongConsumer;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -123,6 +144,147 @@ class ZeroPublisherTest {
 
             sub.assertFailedWith(NullPointerException.class, "null value");
         }
+
+        @Test
+        @DisplayName("Items from random access and sequential lists (request batches)")
+        void fromListsInBatches() {
+            List<Integer> items = IntStream.range(0, 100).boxed().collect(Collectors.toList());
+            for (List<Integer> list : Arrays.asList(new ArrayList<>(items), new LinkedList<>(items))) {
+                AssertSubscriber<Integer> sub = AssertSubscriber.create();
+                ZeroPublisher.fromIterable(list).subscribe(sub);
+
+                sub.request(10L);
+                assertThat(sub.getItems()).isEqualTo(items.subList(0, 10));
+                sub.assertNotTerminated();
+                sub.request(89L);
+                assertThat(sub.getItems()).isEqualTo(items.subList(0, 99));
+                sub.assertNotTerminated();
+                sub.request(2L);
+                assertThat(sub.getItems()).isEqualTo(items);
+                sub.assertCompleted();
+            }
+        }
+
+        @Test
+        @DisplayName("Items from a random access list (presence of a null value)")
+        void fromListWithNull() {
+            AssertSubscriber<Object> sub = AssertSubscriber.create(10L);
+            ZeroPublisher.fromIterable(Arrays.asList(1, null, 3)).subscribe(sub);
+
+            sub.assertItems(1);
+            sub.assertFailedWith(NullPointerException.class, "null value at index 1");
+        }
+
+        @Test
+        @DisplayName("Items from a collection (re-entrant requests)")
+        void fromItemsReentrantRequests() {
+            List<Integer> items = new ArrayList<>();
+            AtomicBoolean completed = new AtomicBoolean();
+            ZeroPublisher.fromItems(1, 2, 3, 4, 5).subscribe(new Flow.Subscriber<>() {
+
+                Flow.Subscription subscription;
+
+                @Override
+                public void onSubscribe(Flow.Subscription subscription) {
+                    this.subscription = subscription;
+                    subscription.request(1L);
+                }
+
+                @Override
+                public void onNext(Integer item) {
+                    items.add(item);
+                    subscription.request(1L);
+                }
+
+                @Override
+                public void onError(Throwable throwable) {
+                    // Nothing here
+                }
+
+                @Override
+                public void onComplete() {
+                    completed.set(true);
+                }
+            });
+
+            assertThat(items).containsExactly(1, 2, 3, 4, 5);
+            assertThat(completed).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("Publisher from primitive values")
+    class PrimitiveValues {
+
+        @Test
+        @DisplayName("Values from primitive arrays")
+        void fromArrays() {
+            AssertSubscriber<Integer> ints = AssertSubscriber.create(Long.MAX_VALUE);
+            ZeroPublisher.fromInts(1, 2, 3).subscribe(ints);
+            ints.assertCompleted().assertItems(1, 2, 3);
+
+            AssertSubscriber<Long> longs = AssertSubscriber.create(Long.MAX_VALUE);
+            ZeroPublisher.fromLongs(1L, 2L, 3L).subscribe(longs);
+            longs.assertCompleted().assertItems(1L, 2L, 3L);
+
+            AssertSubscriber<Double> doubles = AssertSubscriber.create(Long.MAX_VALUE);
+            ZeroPublisher.fromDoubles(1.0d, 2.0d, 3.0d).subscribe(doubles);
+            doubles.assertCompleted().assertItems(1.0d, 2.0d, 3.0d);
+
+            AssertSubscriber<Integer> empty = AssertSubscriber.create(Long.MAX_VALUE);
+            ZeroPublisher.fromInts().subscribe(empty);
+            empty.assertCompleted().assertHasNotReceivedAnyItem();
+
+            int[] array = null;
+            Assertions.assertThrows(NullPointerException.class, () -> ZeroPublisher.fromInts(array));
+        }
+
+        @Test
+        @DisplayName("Values from ranges (request batches)")
+        void ranges() {
+            AssertSubscriber<Integer> ints = AssertSubscriber.create();
+            ZeroPublisher.range(-2, 3).subscribe(ints);
+            ints.request(2L);
+            ints.assertItems(-2, -1).assertNotTerminated();
+            ints.request(10L);
+            ints.assertItems(-2, -1, 0, 1, 2).assertCompleted();
+
+            AssertSubscriber<Long> longs = AssertSubscriber.create(3L);
+            ZeroPublisher.rangeLong(Long.MAX_VALUE - 3L, Long.MAX_VALUE).subscribe(longs);
+            longs.assertItems(Long.MAX_VALUE - 3L, Long.MAX_VALUE - 2L, Long.MAX_VALUE - 1L).assertCompleted();
+
+            AssertSubscriber<Integer> empty = AssertSubscriber.create(Long.MAX_VALUE);
+            ZeroPublisher.range(3, 3).subscribe(empty);
+            empty.assertCompleted().assertHasNotReceivedAnyItem();
+
+            AssertSubscriber<Integer> wide = AssertSubscriber.create(2L);
+            ZeroPublisher.range(Integer.MIN_VALUE, Integer.MAX_VALUE).subscribe(wide);
+            wide.assertItems(Integer.MIN_VALUE, Integer.MIN_VALUE + 1).assertNotTerminated();
+        }
+
+        @Test
+        @DisplayName("Reject bad ranges")
+        void badRanges() {
+            assertThatThrownBy(() -> ZeroPublisher.range(3, 2))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> ZeroPublisher.rangeLong(3L, 2L))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> ZeroPublisher.rangeLong(Long.MIN_VALUE, Long.MAX_VALUE))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("Long.MAX_VALUE");
+        }
+
+        @Test
+        @DisplayName("Values from an int stream")
+        void fromIntStream() {
+            AssertSubscriber<Integer> sub = AssertSubscriber.create(Long.MAX_VALUE);
+            ZeroPublisher.fromIntStream(() -> IntStream.range(0, 5)).subscribe(sub);
+            sub.assertCompleted().assertItems(0, 1, 2, 3, 4);
+
+            AssertSubscriber<Integer> nullStream = AssertSubscriber.create(Long.MAX_VALUE);
+            ZeroPublisher.fromIntStream(() -> null).subscribe(nullStream);
+            nullStream.assertFailedWith(NullPointerException.class, "The supplied stream cannot be null");
+        }
     }
 
     @Nested
@@ -189,6 +351,201 @@ class ZeroPublisherTest {
             sub.assertFailedWith(NullPointerException.class, "null value");
         }
 
+        @Test
+        @DisplayName("Deferred CompletionStage (multiple requests)")
+        void fromDeferredMultipleRequests() {
+            CompletableFuture<Integer> future = new CompletableFuture<>();
+            AssertSubscriber<Object> sub = AssertSubscriber.create(1);
+            ZeroPublisher.fromCompletionStage(() -> future).subscribe(sub);
+            sub.request(1);
+            sub.request(1);
+
+            assertThat(future.getNumberOfDependents()).isEqualTo(1);
+            future.complete(63);
+            sub.assertItems(63).assertCompleted();
+        }
+
+        @Test
+        @DisplayName("Deferred CompletionStage (cancellation)")
+        void fromDeferredCancelled() {
+            CompletableFuture<Integer> future = new CompletableFuture<>();
+            AssertSubscriber<Object> sub = AssertSubscriber.create(1);
+            ZeroPublisher.fromCompletionStage(() -> future).subscribe(sub);
+            sub.cancel();
+
+            assertThat(future).isCancelled();
+            sub.assertNotTerminated().assertHasNotReceivedAnyItem();
+        }
+
+        @Test
+        @DisplayName("Cached CompletionStage (bad parameters)")
+        void cachedBadParameters() {
+            Assertions.assertThrows(NullPointerException.class,
+                    () -> ZeroPublisher.fromCompletionStageCached(null));
+            Assertions.assertThrows(NullPointerException.class,
+                    () -> ZeroPublisher.fromCompletionStageCached(() -> CompletableFuture.completedFuture(1), null));
+            Assertions.assertThrows(IllegalArgumentException.class,
+                    () -> ZeroPublisher.fromCompletionStageCached(() -> CompletableFuture.completedFuture(1), Duration.ZERO));
+        }
+
+        @Test
+        @DisplayName("Cached CompletionStage (value)")
+        void cachedValue() {
+            AtomicInteger calls = new AtomicInteger();
+            CompletableFuture<Integer> future = new CompletableFuture<>();
+            Flow.Publisher<Integer> publisher = ZeroPublisher.fromCompletionStageCached(() -> {
+                calls.incrementAndGet();
+                return future;
+            });
+
+            AssertSubscriber<Integer> first = AssertSubscriber.create(1);
+            AssertSubscriber<Integer> second = AssertSubscriber.create(1);
+            publisher.subscribe(first);
+            publisher.subscribe(second);
+            future.complete(58);
+            AssertSubscriber<Integer> third = AssertSubscriber.create(1);
+            publisher.subscribe(third);
+
+            first.assertItems(58).assertCompleted();
+            second.assertItems(58).assertCompleted();
+            third.assertItems(58).assertCompleted();
+            assertThat(calls).hasValue(1);
+        }
+
+        @Test
+        @DisplayName("Cached CompletionStage (failures are not cached)")
+        void cachedFailure() {
+            AtomicInteger calls = new AtomicInteger();
+            Flow.Publisher<Integer> publisher = ZeroPublisher.fromCompletionStageCached(() -> {
+                if (calls.incrementAndGet() == 1) {
+                    return CompletableFuture.failedFuture(new IOException("boom"));
+                }
+                return CompletableFuture.completedFuture(58);
+            });
+
+            AssertSubscriber<Integer> first = AssertSubscriber.create(1);
+            publisher.subscribe(first);
+            first.assertFailedWith(IOException.class, "boom");
+
+            AssertSubscriber<Integer> second = AssertSubscriber.create(1);
+            publisher.subscribe(second);
+            second.assertItems(58).assertCompleted();
+
+            AssertSubscriber<Integer> third = AssertSubscriber.create(1);
+            publisher.subscribe(third);
+            third.assertItems(58).assertCompleted();
+            assertThat(calls).hasValue(2);
+        }
+
+        @Test
+        @DisplayName("Cached CompletionStage (expiry)")
+        void cachedExpiry() throws InterruptedException {
+            AtomicInteger calls = new AtomicInteger();
+            Flow.Publisher<Integer> publisher = ZeroPublisher.fromCompletionStageCached(
+                    () -> CompletableFuture.completedFuture(calls.incrementAndGet()), Duration.ofMillis(50));
+
+            AssertSubscriber<Integer> first = AssertSubscriber.create(1);
+            publisher.subscribe(first);
+            AssertSubscriber<Integer> second = AssertSubscriber.create(1);
+            publisher.subscribe(second);
+            Thread.sleep(100);
+            AssertSubscriber<Integer> third = AssertSubscriber.create(1);
+            publisher.subscribe(third);
+
+            first.assertItems(1).assertCompleted();
+            second.assertItems(1).assertCompleted();
+            third.assertItems(2).assertCompleted();
+        }
+
+        @Test
+        @DisplayName("Cached CompletionStage (cancellation does not cancel the shared stage)")
+        void cachedCancellation() {
+            CompletableFuture<Integer> future = new CompletableFuture<>();
+            Flow.Publisher<Integer> publisher = ZeroPublisher.fromCompletionStageCached(() -> future);
+
+            AssertSubscriber<Integer> first = AssertSubscriber.create(1);
+            publisher.subscribe(first);
+            AssertSubscriber<Integer> second = AssertSubscriber.create(1);
+            publisher.subscribe(second);
+            first.cancel();
+            future.complete(58);
+
+            assertThat(future).isNotCancelled();
+            first.assertNotTerminated().assertHasNotReceivedAnyItem();
+            second.assertItems(58).assertCompleted();
+        }
+
+        @Test
+        @DisplayName("Cached CompletionStage (concurrent subscriptions call the supplier once)")
+        void cachedConcurrentSubscriptions() throws InterruptedException {
+            AtomicInteger calls = new AtomicInteger();
+            Flow.Publisher<Integer> publisher = ZeroPublisher.fromCompletionStageCached(() -> {
+                calls.incrementAndGet();
+                try {
+                    Thread.sleep(50);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return CompletableFuture.completedFuture(58);
+            });
+
+            int subscribers = 16;
+            CountDownLatch start = new CountDownLatch(1);
+            List<AssertSubscriber<Integer>> subs = new CopyOnWriteArrayList<>();
+            ExecutorService pool = Executors.newFixedThreadPool(subscribers);
+            try {
+                for (int i = 0; i < subscribers; i++) {
+                    pool.execute(() -> {
+                        try {
+                            start.await();
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            return;
+                        }
+                        AssertSubscriber<Integer> sub = AssertSubscriber.create(1);
+                        subs.add(sub);
+                        publisher.subscribe(sub);
+                    });
+                }
+                start.countDown();
+                pool.shutdown();
+                assertThat(pool.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+            } finally {
+                pool.shutdownNow();
+            }
+
+            assertThat(subs).hasSize(subscribers);
+            subs.forEach(sub -> sub.awaitCompletion(Duration.ofSeconds(5)).assertItems(58));
+            assertThat(calls).hasValue(1);
+        }
+
+        @Test
+        @DisplayName("Cached CompletionStage (subscriptions waiting for a null stage fail)")
+        void cachedNullStage() {
+            AtomicInteger calls = new AtomicInteger();
+            CompletableFuture<Integer> future = new CompletableFuture<>();
+            Flow.Publisher<Integer> publisher = ZeroPublisher.fromCompletionStageCached(() -> {
+                if (calls.incrementAndGet() == 1) {
+                    return null;
+                }
+                return future;
+            });
+
+            AssertSubscriber<Integer> first = AssertSubscriber.create(1);
+            publisher.subscribe(first);
+            first.assertFailedWith(NullPointerException.class, "null");
+
+            AssertSubscriber<Integer> second = AssertSubscriber.create(1);
+            AssertSubscriber<Integer> third = AssertSubscriber.create(1);
+            publisher.subscribe(second);
+            publisher.subscribe(third);
+            future.complete(58);
+
+            second.assertItems(58).assertCompleted();
+            third.assertItems(58).assertCompleted();
+            assertThat(calls).hasValue(2);
+        }
+
         @Test
         @DisplayName("Publisher to CompletionStage (value)")
         void publisherToCompletionStageOk() {
@@ -235,6 +592,56 @@ class ZeroPublisherTest {
                         assertThat(counter).hasValue(0);
                     });
         }
+
+        @Test
+        @DisplayName("Publisher to CompletionStage (cancellation)")
+        void publisherToCompletionStageCancelled() {
+            AtomicBoolean cancelled = new AtomicBoolean();
+            Flow.Publisher<Integer> publisher = ZeroPublisher.create(new TubeConfiguration(),
+                    tube -> tube.whenCancelled(() -> cancelled.set(true)));
+
+            CompletionStage<Optional<Integer>> stage = ZeroPublisher.toCompletionStage(publisher);
+            assertThat(cancelled).isFalse();
+            stage.toCompletableFuture().cancel(false);
+
+            assertThat(cancelled).isTrue();
+        }
+
+        @Test
+        @DisplayName("Publisher to CompletionStage (timeout)")
+        void publisherToCompletionStageTimeout() {
+            AtomicBoolean cancelled = new AtomicBoolean();
+            Flow.Publisher<Integer> publisher = ZeroPublisher.create(new TubeConfiguration(),
+                    tube -> tube.whenCancelled(() -> cancelled.set(true)));
+
+            CompletableFuture<Optional<Integer>> future = ZeroPublisher
+                    .toCompletionStage(publisher, Duration.ofMillis(50))
+                    .toCompletableFuture();
+
+            assertThatThrownBy(() -> future.get(5, TimeUnit.SECONDS))
+                    .isInstanceOf(ExecutionException.class)
+                    .hasCauseInstanceOf(TimeoutException.class);
+            await().atMost(Duration.ofSeconds(5)).untilTrue(cancelled);
+        }
+
+        @Test
+        @DisplayName("Publisher to CompletionStage (value before the timeout)")
+        void publisherToCompletionStageBeforeTimeout() throws Exception {
+            Optional<Integer> value = ZeroPublisher.toCompletionStage(ZeroPublisher.fromItems(58, 63), Duration.ofSeconds(5))
+                    .toCompletableFuture()
+                    .get(5, TimeUnit.SECONDS);
+
+            assertThat(value).contains(58);
+        }
+
+        @Test
+        @DisplayName("Publisher to CompletionStage (bad timeouts)")
+        void publisherToCompletionStageBadTimeout() {
+            Assertions.assertThrows(NullPointerException.class,
+                    () -> ZeroPublisher.toCompletionStage(ZeroPublisher.empty(), null));
+            Assertions.assertThrows(IllegalArgumentException.class,
+                    () -> ZeroPublisher.toCompletionStage(ZeroPublisher.empty(), Duration.ofSeconds(-1)));
+        }
     }
 
     @Nested
@@ -293,6 +700,236 @@ class ZeroPublisherTest {
             sub.assertItems(1, 2);
             sub.assertNotTerminated();
         }
+
+        @Test
+        @DisplayName("Close the stream on completion, failure and cancellation")
+        void close() {
+            AtomicInteger closed = new AtomicInteger();
+
+            AssertSubscriber<Integer> completed = AssertSubscriber.create(Long.MAX_VALUE);
+            ZeroPublisher.fromStream(() -> Stream.of(1, 2, 3).onClose(closed::incrementAndGet)).subscribe(completed);
+            completed.assertCompleted();
+            assertThat(closed).hasValue(1);
+
+            AssertSubscriber<Integer> failed = AssertSubscriber.create(Long.MAX_VALUE);
+            ZeroPublisher.fromStream(() -> Stream.of(1, 2, 3)
+                    .map(n -> {
+                        if (n == 2) {
+                            throw new IllegalStateException("boom");
+                        }
+                        return n;
+                    })
+                    .onClose(closed::incrementAndGet)).subscribe(failed);
+            failed.assertItems(1).assertFailedWith(IllegalStateException.class, "boom");
+            assertThat(closed).hasValue(2);
+
+            AssertSubscriber<Integer> cancelled = AssertSubscriber.create(1L);
+            ZeroPublisher.fromStream(() -> Stream.of(1, 2, 3).onClose(closed::incrementAndGet)).subscribe(cancelled);
+            cancelled.cancel();
+            cancelled.assertItems(1).assertNotTerminated();
+            assertThat(closed).hasValue(3);
+        }
+
+        @Test
+        @DisplayName("Do not signal the failures of the subscriber back to it")
+        void subscriberFailure() {
+            for (long demand : new long[] { 10L, Long.MAX_VALUE }) {
+                AtomicInteger closed = new AtomicInteger();
+                AtomicReference<Throwable> signaled = new AtomicReference<>();
+                AtomicReference<Flow.Subscription> subscriptionRef = new AtomicReference<>();
+                ZeroPublisher.fromStream(() -> Stream.of(1, 2, 3).onClose(closed::incrementAndGet))
+                        .subscribe(new Flow.Subscriber<>() {
+                            @Override
+                            public void onSubscribe(Flow.Subscription subscription) {
+                                subscriptionRef.set(subscription);
+                            }
+
+                            @Override
+                            public void onNext(Integer item) {
+                                throw new IllegalStateException("boom");
+                            }
+
+                            @Override
+                            public void onError(Throwable throwable) {
+                                signaled.set(throwable);
+                            }
+
+                            @Override
+                            public void onComplete() {
+                                // Nothing here
+                            }
+                        });
+
+                assertThatThrownBy(() -> subscriptionRef.get().request(demand))
+                        .isInstanceOf(IllegalStateException.class)
+                        .hasMessage("boom");
+                assertThat(signaled).hasValue(null);
+                assertThat(closed).hasValue(1);
+            }
+        }
+
+        @Test
+        @DisplayName("Complete a sized stream right after its last item")
+        void sized() {
+            AssertSubscriber<Integer> sub = AssertSubscriber.create(3L);
+            ZeroPublisher.fromStream(() -> Stream.of(1, 2, 3)).subscribe(sub);
+            sub.assertItems(1, 2, 3).assertCompleted();
+
+            AssertSubscriber<Integer> empty = AssertSubscriber.create();
+            ZeroPublisher.fromStream(Stream::<Integer> empty).subscribe(empty);
+            empty.assertCompleted();
+        }
+
+        @Test
+        @DisplayName("Cancel an infinite stream with an unbounded request")
+        void cancelInfiniteStream() {
+            AtomicInteger count = new AtomicInteger();
+            AtomicBoolean closed = new AtomicBoolean();
+            ZeroPublisher.fromStream(() -> Stream.iterate(0, n -> n + 1).onClose(() -> closed.set(true)))
+                    .subscribe(new Flow.Subscriber<>() {
+
+                        Flow.Subscription subscription;
+
+                        @Override
+                        public void onSubscribe(Flow.Subscription subscription) {
+                            this.subscription = subscription;
+                            subscription.request(Long.MAX_VALUE);
+                        }
+
+                        @Override
+                        public void onNext(Integer item) {
+                            if (count.incrementAndGet() == 100) {
+                                subscription.cancel();
+                            }
+                        }
+
+                        @Override
+                        public void onError(Throwable throwable) {
+                            // Nothing here
+                        }
+
+                        @Override
+                        public void onComplete() {
+                            // Nothing here
+                        }
+                    });
+
+            assertThat(count).hasValue(100);
+            assertThat(closed).isTrue();
+        }
+
+        @Test
+        @DisplayName("Fail on an already consumed stream")
+        void alreadyConsumed() {
+            Stream<Integer> stream = Stream.of(1, 2, 3);
+            stream.forEach(n -> {
+                // Consume the stream
+            });
+            AssertSubscriber<Integer> sub = AssertSubscriber.create(10L);
+            ZeroPublisher.fromStream(() -> stream).subscribe(sub);
+            sub.assertFailedWith(IllegalStateException.class, null);
+        }
+    }
+
+    @Nested
+    @DisplayName("Publisher from parallel streams")
+    class ParallelStreams {
+
+        private ExecutorService executor;
+
+        @BeforeEach
+        void setUp() {
+            executor = Executors.newFixedThreadPool(4);
+        }
+
+        @AfterEach
+        void tearDown() {
+            executor.shutdownNow();
+        }
+
+        @Test
+        @DisplayName("Reject bad parameters")
+        void badParameters() {
+            assertThatThrownBy(() -> ZeroPublisher.fromStreamParallel(Stream::empty, 0, executor))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> ZeroPublisher.fromStreamParallel(Stream::empty, 4, null))
+                    .isInstanceOf(NullPointerException.class);
+        }
+
+        @Test
+        @DisplayName("Emit in order from several threads")
+        void ordered() {
+            Set<String> threads = ConcurrentHashMap.newKeySet();
+            AssertSubscriber<Integer> sub = AssertSubscriber.create(Long.MAX_VALUE);
+            ZeroPublisher.fromStreamParallel(() -> IntStream.range(0, 20_000).boxed().map(n -> {
+                threads.add(Thread.currentThread().getName());
+                return n;
+            }), 4, executor).subscribe(sub);
+
+            sub.awaitCompletion();
+            assertThat(sub.getItems()).hasSize(20_000).isSorted();
+            assertThat(sub.getItems().get(19_999)).isEqualTo(19_999);
+            assertThat(threads).hasSizeGreaterThan(1);
+        }
+
+        @Test
+        @DisplayName("Emit in order from a stream of unknown size")
+        void unknownSize() {
+            AssertSubscriber<Integer> sub = AssertSubscriber.create(Long.MAX_VALUE);
+            ZeroPublisher.fromStreamParallel(() -> Stream.iterate(0, n -> n + 1).limit(10_000), 4, executor)
+                    .subscribe(sub);
+
+            sub.awaitCompletion();
+            assertThat(sub.getItems()).hasSize(10_000).isSorted();
+        }
+
+        @Test
+        @DisplayName("Respect the demand")
+        void demand() {
+            AssertSubscriber<Integer> sub = AssertSubscriber.create();
+            ZeroPublisher.fromStreamParallel(() -> IntStream.range(0, 5_000).boxed(), 4, executor).subscribe(sub);
+
+            sub.request(10L);
+            await().until(() -> sub.getItems().size() == 10);
+            sub.assertItems(0, 1, 2, 3, 4, 5, 6, 7, 8, 9).assertNotTerminated();
+
+            sub.request(4_990L);
+            sub.awaitCompletion();
+            assertThat(sub.getItems()).hasSize(5_000).isSorted();
+        }
+
+        @Test
+        @DisplayName("Propagate failures and close the stream")
+        void failure() {
+            AtomicBoolean closed = new AtomicBoolean();
+            AssertSubscriber<Integer> sub = AssertSubscriber.create(Long.MAX_VALUE);
+            ZeroPublisher.fromStreamParallel(() -> IntStream.range(0, 10_000).boxed().map(n -> {
+                if (n == 5_000) {
+                    throw new IllegalStateException("boom");
+                }
+                return n;
+            }).onClose(() -> closed.set(true)), 4, executor).subscribe(sub);
+
+            sub.awaitFailure();
+            sub.assertFailedWith(IllegalStateException.class, "boom");
+            assertThat(sub.getItems()).hasSizeLessThanOrEqualTo(5_000).isSorted();
+            assertThat(closed).isTrue();
+        }
+
+        @Test
+        @DisplayName("Close the stream on cancellation")
+        void cancellation() {
+            AtomicBoolean closed = new AtomicBoolean();
+            AssertSubscriber<Integer> sub = AssertSubscriber.create();
+            ZeroPublisher.fromStreamParallel(() -> IntStream.range(0, 10_000).boxed().onClose(() -> closed.set(true)), 4,
+                    executor).subscribe(sub);
+
+            sub.request(1L);
+            await().until(() -> sub.getItems().size() == 1);
+            sub.cancel();
+            await().untilTrue(closed);
+            sub.assertItems(0).assertNotTerminated();
+        }
     }
 
     @Nested
@@ -553,6 +1190,48 @@ class ZeroPublisherTest {
             sub.assertItems(1, 2, 3, 10, 11, 12);
             sub.assertCompleted();
         }
+
+        @Test
+        @DisplayName("Tube dropping with requests from onNext")
+        void droppingWithRequestsFromOnNext() {
+            List<Integer> items = new ArrayList<>();
+            AtomicBoolean completed = new AtomicBoolean();
+            ZeroPublisher.<Integer> create(new TubeConfiguration(), tube -> {
+                for (int i = 1; i < 20; i++) {
+                    tube.send(i);
+                }
+                tube.complete();
+            }).subscribe(new Flow.Subscriber<>() {
+                private Flow.Subscription subscription;
+
+                @Override
+                public void onSubscribe(Flow.Subscription subscription) {
+                    this.subscription = subscription;
+                    subscription.request(1L);
+                }
+
+                @Override
+                public void onNext(Integer item) {
+                    items.add(item);
+                    if (item < 5) {
+                        subscription.request(1L);
+                    }
+                }
+
+                @Override
+                public void onError(Throwable throwable) {
+                    // Nothing here
+                }
+
+                @Override
+                public void onComplete() {
+                    completed.set(true);
+                }
+            });
+
+            assertThat(items).containsExactly(1, 2, 3, 4, 5);
+            assertThat(completed).isTrue();
+        }
     }
 
     @Nested
@@ -764,6 +1443,42 @@ class ZeroPublisherTest {
             sub.assertFailedWith(IllegalStateException.class, "there is no demand and the overflow buffer is full: 262");
         }
 
+        @Test
+        @DisplayName("Concurrent producers fill the overflow buffer exactly")
+        void concurrentOverflow() throws InterruptedException {
+            AssertSubscriber<Integer> sub = AssertSubscriber.create();
+            AtomicReference<Tube<Integer>> tubeRef = new AtomicReference<>();
+            TubeConfiguration configuration = new TubeConfiguration()
+                    .withBackpressureStrategy(BackpressureStrategy.BUFFER)
+                    .withBufferSize(64);
+            ZeroPublisher.create(configuration, tubeRef::set).subscribe(sub);
+            Tube<Integer> tube = tubeRef.get();
+
+            ExecutorService pool = Executors.newFixedThreadPool(4);
+            try {
+                CountDownLatch start = new CountDownLatch(1);
+                for (int p = 0; p < 4; p++) {
+                    int base = p * 16;
+                    pool.submit(() -> {
+                        start.await();
+                        for (int i = 0; i < 16; i++) {
+                            tube.send(base + i);
+                        }
+                        return null;
+                    });
+                }
+                start.countDown();
+            } finally {
+                pool.shutdown();
+                assertThat(pool.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+            }
+            sub.assertNotTerminated();
+
+            tube.send(64);
+            sub.assertFailedWith(IllegalStateException.class, "there is no demand and the overflow buffer is full: 64");
+            assertThat(sub.getItems()).isEmpty();
+        }
+
         @Test
         @DisplayName("Overflow then drain")
         void overflowThenDrain() {
@@ -828,6 +1543,54 @@ class ZeroPublisherTest {
             sub.assertCompleted();
         }
 
+        @Test
+        @DisplayName("Items sent from onNext while there is demand are not overflow items")
+        void reentrantSendsWithDemand() {
+            for (BackpressureStrategy strategy : List.of(BackpressureStrategy.BUFFER, BackpressureStrategy.LATEST)) {
+                List<Integer> items = new ArrayList<>();
+                AtomicReference<Throwable> failure = new AtomicReference<>();
+                AtomicBoolean completed = new AtomicBoolean();
+                AtomicReference<Tube<Integer>> tubeRef = new AtomicReference<>();
+
+                TubeConfiguration configuration = new TubeConfiguration()
+                        .withBackpressureStrategy(strategy)
+                        .withBufferSize(4);
+                ZeroPublisher.<Integer> create(configuration, tubeRef::set).subscribe(new Flow.Subscriber<>() {
+                    @Override
+                    public void onSubscribe(Flow.Subscription subscription) {
+                        subscription.request(Long.MAX_VALUE);
+                    }
+
+                    @Override
+                    public void onNext(Integer item) {
+                        items.add(item);
+                        if (item == 0) {
+                            // The drain loop is busy, so these items are queued
+                            for (int i = 1; i < 20; i++) {
+                                tubeRef.get().send(i);
+                            }
+                            tubeRef.get().complete();
+                        }
+                    }
+
+                    @Override
+                    public void onError(Throwable throwable) {
+                        failure.set(throwable);
+                    }
+
+                    @Override
+                    public void onComplete() {
+                        completed.set(true);
+                    }
+                });
+                tubeRef.get().send(0);
+
+                assertThat(failure).as(strategy.name()).hasValue(null);
+                assertThat(completed).as(strategy.name()).isTrue();
+                assertThat(items).as(strategy.name()).isEqualTo(IntStream.range(0, 20).boxed().collect(Collectors.toList()));
+            }
+        }
+
         @Test
         @DisplayName("Unbounded buffer")
         void unbounded() {
@@ -952,4 +1715,701 @@ class ZeroPublisherTest {
             sub.assertCompleted();
         }
     }
+
+    @Nested
+    @DisplayName("Single producer tube publishers")
+    class SingleProducerTubes {
+
+        @Test
+        @DisplayName("Send items with every back-pressure strategy")
+        void allStrategies() {
+            for (BackpressureStrategy strategy : BackpressureStrategy.values()) {
+                AssertSubscriber<Integer> sub = AssertSubscriber.create(Long.MAX_VALUE);
+                TubeConfiguration configuration = new TubeConfiguration()
+                        .withBackpressureStrategy(strategy)
+                        .withBufferSize(16)
+                        .withSingleProducer(true);
+                ZeroPublisher.<Integer> create(configuration, tube -> {
+                    new Thread(() -> {
+                        for (int i = 0; i < 1000; i++) {
+                            tube.send(i);
+                        }
+                        tube.complete();
+                    }).start();
+                }).subscribe(sub);
+
+                sub.awaitCompletion();
+                assertThat(sub.getItems()).hasSize(1000).startsWith(0, 1, 2).endsWith(997, 998, 999);
+            }
+        }
+
+        @Test
+        @DisplayName("Detect concurrent sends when assertions are enabled")
+        void detectConcurrentSends() throws InterruptedException {
+            CountDownLatch inOnNext = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            AtomicReference<Tube<Integer>> tubeRef = new AtomicReference<>();
+
+            TubeConfiguration configuration = new TubeConfiguration().withSingleProducer(true);
+            ZeroPublisher.<Integer> create(configuration, tubeRef::set).subscribe(new Flow.Subscriber<>() {
+                @Override
+                public void onSubscribe(Flow.Subscription subscription) {
+                    subscription.request(Long.MAX_VALUE);
+                }
+
+                @Override
+                public void onNext(Integer item) {
+                    inOnNext.countDown();
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        throw new RuntimeException(e);
+                    }
+                }
+
+                @Override
+                public void onError(Throwable throwable) {
+                    // Nothing here
+                }
+
+                @Override
+                public void onComplete() {
+                    // Nothing here
+                }
+            });
+
+            new Thread(() -> tubeRef.get().send(1)).start();
+            inOnNext.await();
+            try {
+                assertThatThrownBy(() -> tubeRef.get().send(2))
+                        .isInstanceOf(AssertionError.class)
+                        .hasMessageContaining("configured for a single producer");
+            } finally {
+                release.countDown();
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Batch sends to tubes")
+    class BatchSends {
+
+        private List<Integer> range(int start, int end) {
+            List<Integer> items = new ArrayList<>();
+            for (int i = start; i < end; i++) {
+                items.add(i);
+            }
+            return items;
+        }
+
+        @Test
+        @DisplayName("Send a batch with enough demand for every back-pressure strategy")
+        void allStrategies() {
+            for (BackpressureStrategy strategy : BackpressureStrategy.values()) {
+                AssertSubscriber<Integer> sub = AssertSubscriber.create(Long.MAX_VALUE);
+                TubeConfiguration configuration = new TubeConfiguration()
+                        .withBackpressureStrategy(strategy)
+                        .withBufferSize(16);
+                ZeroPublisher.<Integer> create(configuration, tube -> {
+                    tube.sendAll(range(0, 500)).sendAll(range(500, 1000));
+                    tube.complete();
+                }).subscribe(sub);
+
+                sub.assertCompleted();
+                assertThat(sub.getItems()).as(strategy.name()).isEqualTo(range(0, 1000));
+            }
+        }
+
+        @Test
+        @DisplayName("Send a slice of an array")
+        void arraySlice() {
+            AssertSubscriber<Integer> sub = AssertSubscriber.create(Long.MAX_VALUE);
+            Integer[] items = { 1, 2, 3, 4, 5, 6 };
+            ZeroPublisher.<Integer> create(new TubeConfiguration(), tube -> {
+                tube.sendAll(items, 1, 3);
+                tube.complete();
+            }).subscribe(sub);
+
+            sub.assertCompleted().assertItems(2, 3, 4);
+            assertThatThrownBy(() -> ZeroPublisher.<Integer> create(new TubeConfiguration(), tube -> tube.sendAll(items, 4, 3))
+                    .subscribe(AssertSubscriber.create(1)))
+                            .isInstanceOf(IndexOutOfBoundsException.class);
+        }
+
+        @Test
+        @DisplayName("Drop the items beyond demand")
+        void dropping() {
+            AssertSubscriber<Integer> sub = AssertSubscriber.create(3);
+            ZeroPublisher.<Integer> create(new TubeConfiguration(), tube -> {
+                tube.sendAll(range(1, 20));
+                tube.complete();
+            }).subscribe(sub);
+
+            sub.assertCompleted().assertItems(1, 2, 3);
+        }
+
+        @Test
+        @DisplayName("Fail on items beyond demand")
+        void erroring() {
+            AssertSubscriber<Integer> sub = AssertSubscriber.create(3);
+            TubeConfiguration configuration = new TubeConfiguration()
+                    .withBackpressureStrategy(BackpressureStrategy.ERROR);
+            ZeroPublisher.<Integer> create(configuration, tube -> tube.sendAll(range(1, 20))).subscribe(sub);
+
+            sub.assertItems(1, 2, 3);
+            sub.assertFailedWith(IllegalStateException.class, "no demand: 4");
+        }
+
+        @Test
+        @DisplayName("Queued items claim their demand")
+        void queuedItemsClaimDemand() {
+            for (BackpressureStrategy strategy : List.of(BackpressureStrategy.DROP, BackpressureStrategy.ERROR)) {
+                AtomicReference<Tube<Integer>> tubeRef = new AtomicReference<>();
+                TubeConfiguration configuration = new TubeConfiguration().withBackpressureStrategy(strategy);
+                AssertSubscriber<Integer> sub = new AssertSubscriber<>(3) {
+                    @Override
+                    public synchronized void onNext(Integer item) {
+                        super.onNext(item);
+                        if (item == 1) {
+                            // Queued since the drain loop is busy, only two of them have demand
+                            tubeRef.get().sendAll(range(2, 6));
+                        }
+                    }
+                };
+                ZeroPublisher.create(configuration, tubeRef::set).subscribe(sub);
+                tubeRef.get().send(1);
+
+                sub.assertItems(1, 2, 3);
+                if (strategy == BackpressureStrategy.ERROR) {
+                    sub.assertFailedWith(IllegalStateException.class, "no demand: 4");
+                } else {
+                    sub.request(10L);
+                    tubeRef.get().complete();
+                    sub.assertCompleted().assertItems(1, 2, 3);
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("Buffer the items beyond demand")
+        void buffering() {
+            AssertSubscriber<Integer> sub = AssertSubscriber.create(3);
+            TubeConfiguration configuration = new TubeConfiguration()
+                    .withBackpressureStrategy(BackpressureStrategy.BUFFER)
+                    .withBufferSize(16);
+            ZeroPublisher.<Integer> create(configuration, tube -> {
+                tube.sendAll(range(1, 10));
+                tube.sendAll(range(10, 20));
+                tube.complete();
+            }).subscribe(sub);
+
+            sub.assertNotTerminated().assertItems(1, 2, 3);
+            sub.request(100L);
+            sub.assertCompleted();
+            assertThat(sub.getItems()).isEqualTo(range(1, 20));
+        }
+
+        @Test
+        @DisplayName("Fail when the buffer overflows")
+        void bufferOverflow() {
+            AssertSubscriber<Integer> sub = AssertSubscriber.create(3);
+            TubeConfiguration configuration = new TubeConfiguration()
+                    .withBackpressureStrategy(BackpressureStrategy.BUFFER)
+                    .withBufferSize(5);
+            ZeroPublisher.<Integer> create(configuration, tube -> tube.sendAll(range(1, 20))).subscribe(sub);
+
+            sub.assertItems(1, 2, 3);
+            sub.assertFailedWith(IllegalStateException.class, "overflow buffer is full: 9");
+        }
+
+        @Test
+        @DisplayName("Keep the latest items beyond demand")
+        void latest() {
+            AssertSubscriber<Integer> sub = AssertSubscriber.create(3);
+            TubeConfiguration configuration = new TubeConfiguration()
+                    .withBackpressureStrategy(BackpressureStrategy.LATEST)
+                    .withBufferSize(2);
+            ZeroPublisher.<Integer> create(configuration, tube -> {
+                tube.sendAll(range(1, 20));
+                tube.complete();
+            }).subscribe(sub);
+
+            sub.request(100L);
+            sub.assertCompleted().assertItems(1, 2, 3, 18, 19);
+        }
+
+        @Test
+        @DisplayName("Account for requests made from onNext")
+        void requestsFromOnNext() {
+            List<Integer> items = new ArrayList<>();
+            AtomicBoolean completed = new AtomicBoolean();
+            ZeroPublisher.<Integer> create(new TubeConfiguration(), tube -> {
+                tube.sendAll(range(0, 100));
+                tube.complete();
+            }).subscribe(new Flow.Subscriber<>() {
+
+                Flow.Subscription subscription;
+
+                @Override
+                public void onSubscribe(Flow.Subscription subscription) {
+                    this.subscription = subscription;
+                    subscription.request(1L);
+                }
+
+                @Override
+                public void onNext(Integer item) {
+                    items.add(item);
+                    subscription.request(1L);
+                }
+
+                @Override
+                public void onError(Throwable throwable) {
+                    // Nothing here
+                }
+
+                @Override
+                public void onComplete() {
+                    completed.set(true);
+                }
+            });
+
+            assertThat(completed).isTrue();
+            assertThat(items).isEqualTo(range(0, 100));
+        }
+
+        @Test
+        @DisplayName("Fail on null items")
+        void nullItems() {
+            AssertSubscriber<Integer> sub = AssertSubscriber.create(10);
+            ZeroPublisher.<Integer> create(new TubeConfiguration(), tube -> tube.sendAll(Arrays.asList(1, 2, null, 4)))
+                    .subscribe(sub);
+
+            sub.assertItems(1, 2);
+            sub.assertFailedWith(NullPointerException.class, "The item is null");
+
+            AssertSubscriber<Integer> sub2 = AssertSubscriber.create(10);
+            ZeroPublisher.<Integer> create(new TubeConfiguration(), tube -> tube.sendAll(null)).subscribe(sub2);
+            sub2.assertFailedWith(NullPointerException.class, "The items are null");
+        }
+    }
+
+    @Nested
+    @DisplayName("Blocking sends to tubes")
+    class BlockingSends {
+
+        @Test
+        @DisplayName("Wait for demand instead of dropping items")
+        void waitForDemand() {
+            AssertSubscriber<Integer> sub = AssertSubscriber.create();
+            AtomicReference<Throwable> producerFailure = new AtomicReference<>();
+            ZeroPublisher.<Integer> create(new TubeConfiguration(), tube -> {
+                new Thread(() -> {
+                    try {
+                        for (int i = 0; i < 100; i++) {
+                            tube.sendBlocking(i);
+                        }
+                        tube.complete();
+                    } catch (InterruptedException e) {
+                        producerFailure.set(e);
+                    }
+                }).start();
+            }).subscribe(sub);
+
+            for (int i = 1; i <= 100; i++) {
+                int expected = i;
+                sub.request(1L);
+                await().until(() -> sub.getItems().size() == expected);
+            }
+            sub.awaitCompletion();
+            assertThat(sub.getItems()).hasSize(100).startsWith(0, 1, 2).endsWith(97, 98, 99);
+            assertThat(producerFailure).hasValue(null);
+        }
+
+        @Test
+        @DisplayName("Reserve demand for each of the concurrent producers")
+        void concurrentProducers() throws InterruptedException {
+            AtomicReference<Tube<Integer>> tubeRef = new AtomicReference<>();
+            AssertSubscriber<Integer> sub = new AssertSubscriber<>() {
+                @Override
+                public synchronized void onNext(Integer item) {
+                    // The request is only consumed once onNext returns, leaving time for the other producers
+                    try {
+                        Thread.sleep(50L);
+                    } catch (InterruptedException e) {
+                        throw new RuntimeException(e);
+                    }
+                    super.onNext(item);
+                }
+            };
+            TubeConfiguration configuration = new TubeConfiguration().withBackpressureStrategy(BackpressureStrategy.DROP);
+            ZeroPublisher.create(configuration, tubeRef::set).subscribe(sub);
+
+            AtomicInteger sent = new AtomicInteger();
+            List<Thread> producers = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                int item = i;
+                Thread producer = new Thread(() -> {
+                    try {
+                        if (tubeRef.get().sendWithTimeout(item, Duration.ofMinutes(1))) {
+                            sent.incrementAndGet();
+                        }
+                    } catch (InterruptedException e) {
+                        throw new RuntimeException(e);
+                    }
+                });
+                producers.add(producer);
+                producer.start();
+            }
+            await().until(() -> producers.stream().allMatch(p -> p.getState() == Thread.State.TIMED_WAITING));
+
+            // A single request wakes up every producer, but only one of them may send its item
+            sub.request(1L);
+            await().until(() -> sent.get() == 1);
+            await().until(() -> producers.stream().filter(Thread::isAlive).count() == 3L
+                    && producers.stream().filter(Thread::isAlive).allMatch(p -> p.getState() == Thread.State.TIMED_WAITING));
+            assertThat(sub.getItems()).hasSize(1);
+
+            sub.request(3L);
+            for (Thread producer : producers) {
+                producer.join(5_000L);
+            }
+            assertThat(sent).hasValue(4);
+            assertThat(sub.getItems()).containsExactlyInAnyOrder(0, 1, 2, 3);
+        }
+
+        @Test
+        @DisplayName("Poll for demand in the default implementation")
+        void defaultImplementation() throws InterruptedException {
+            MinimalTube<Integer> tube = new MinimalTube<>();
+            assertThat(tube.sendWithTimeout(1, Duration.ofMillis(20))).isFalse();
+
+            Thread producer = new Thread(() -> {
+                try {
+                    tube.sendBlocking(2);
+                } catch (InterruptedException e) {
+                    throw new RuntimeException(e);
+                }
+            });
+            producer.start();
+            Thread.sleep(20L);
+            assertThat(tube.items).isEmpty();
+            tube.requested.set(1L);
+            producer.join(5_000L);
+            assertThat(tube.items).containsExactly(2);
+
+            tube.requested.set(0L);
+            tube.cancelled = true;
+            assertThat(tube.sendWithTimeout(3, Duration.ofMinutes(1))).isFalse();
+            assertThat(tube.items).containsExactly(2);
+        }
+
+        @Test
+        @DisplayName("Give up on timeout")
+        void timeout() throws InterruptedException {
+            AtomicReference<Tube<Integer>> tubeRef = new AtomicReference<>();
+            AssertSubscriber<Integer> sub = AssertSubscriber.create();
+            ZeroPublisher.<Integer> create(new TubeConfiguration(), tubeRef::set).subscribe(sub);
+
+            Tube<Integer> tube = tubeRef.get();
+            assertThat(tube.sendWithTimeout(1, Duration.ofMillis(50))).isFalse();
+            sub.request(1L);
+            assertThat(tube.sendWithTimeout(2, Duration.ofMillis(50))).isTrue();
+            assertThat(tube.sendWithTimeout(3, Duration.ZERO)).isFalse();
+            sub.assertItems(2).assertNotTerminated();
+        }
+
+        @Test
+        @DisplayName("Wake up on cancellation")
+        void cancellation() throws InterruptedException {
+            AtomicReference<Tube<Integer>> tubeRef = new AtomicReference<>();
+            AssertSubscriber<Integer> sub = AssertSubscriber.create();
+            ZeroPublisher.<Integer> create(new TubeConfiguration(), tubeRef::set).subscribe(sub);
+
+            AtomicBoolean sent = new AtomicBoolean(true);
+            Thread producer = new Thread(() -> {
+                try {
+                    sent.set(tubeRef.get().sendWithTimeout(1, Duration.ofMinutes(1)));
+                } catch (InterruptedException e) {
+                    throw new RuntimeException(e);
+                }
+            });
+            producer.start();
+            await().until(() -> producer.getState() == Thread.State.WAITING
+                    || producer.getState() == Thread.State.TIMED_WAITING);
+            sub.cancel();
+            producer.join(5_000L);
+
+            assertThat(producer.isAlive()).isFalse();
+            assertThat(sent).isFalse();
+            sub.assertHasNotReceivedAnyItem();
+        }
+
+        @Test
+        @DisplayName("Wake up on failure")
+        void failure() throws InterruptedException {
+            AtomicReference<Tube<Integer>> tubeRef = new AtomicReference<>();
+            AssertSubscriber<Integer> sub = AssertSubscriber.create();
+            ZeroPublisher.<Integer> create(new TubeConfiguration(), tubeRef::set).subscribe(sub);
+
+            Thread producer = new Thread(() -> {
+                try {
+                    tubeRef.get().sendBlocking(1);
+                } catch (InterruptedException e) {
+                    throw new RuntimeException(e);
+                }
+            });
+            producer.start();
+            await().until(() -> producer.getState() == Thread.State.WAITING);
+            tubeRef.get().fail(new IOException("boom"));
+            producer.join(5_000L);
+
+            assertThat(producer.isAlive()).isFalse();
+            sub.assertFailedWith(IOException.class, "boom");
+            sub.assertHasNotReceivedAnyItem();
+        }
+
+        @Test
+        @DisplayName("Propagate interruptions")
+        void interruption() throws InterruptedException {
+            AtomicReference<Tube<Integer>> tubeRef = new AtomicReference<>();
+            ZeroPublisher.<Integer> create(new TubeConfiguration(), tubeRef::set).subscribe(AssertSubscriber.create());
+
+            AtomicReference<Throwable> producerFailure = new AtomicReference<>();
+            Thread producer = new Thread(() -> {
+                try {
+                    tubeRef.get().sendBlocking(1);
+                } catch (InterruptedException e) {
+                    producerFailure.set(e);
+                }
+            });
+            producer.start();
+            await().until(() -> producer.getState() == Thread.State.WAITING);
+            producer.interrupt();
+            producer.join(5_000L);
+
+            assertThat(producerFailure.get()).isInstanceOf(InterruptedException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("Asynchronous sends to tubes")
+    class AsyncSends {
+
+        @Test
+        @DisplayName("Complete when there is demand")
+        void awaitDemand() {
+            AtomicReference<Tube<Integer>> tubeRef = new AtomicReference<>();
+            AssertSubscriber<Integer> sub = AssertSubscriber.create();
+            ZeroPublisher.<Integer> create(new TubeConfiguration(), tubeRef::set).subscribe(sub);
+
+            CompletableFuture<Void> future = tubeRef.get().awaitDemand().toCompletableFuture();
+            assertThat(future).isNotDone();
+            sub.request(1L);
+            assertThat(future).isCompleted();
+            assertThat(tubeRef.get().awaitDemand().toCompletableFuture()).isCompleted();
+        }
+
+        @Test
+        @DisplayName("Send pending items in order as demand arrives")
+        void sendAsync() {
+            AtomicReference<Tube<Integer>> tubeRef = new AtomicReference<>();
+            AssertSubscriber<Integer> sub = AssertSubscriber.create();
+            ZeroPublisher.<Integer> create(new TubeConfiguration(), tubeRef::set).subscribe(sub);
+
+            List<CompletableFuture<Void>> futures = new ArrayList<>();
+            for (int i = 0; i < 5; i++) {
+                futures.add(tubeRef.get().sendAsync(i).toCompletableFuture());
+            }
+            sub.assertHasNotReceivedAnyItem();
+
+            sub.request(2L);
+            sub.assertItems(0, 1);
+            assertThat(futures.get(1)).isCompleted();
+            assertThat(futures.get(2)).isNotDone();
+
+            sub.request(10L);
+            sub.assertItems(0, 1, 2, 3, 4);
+            assertThat(futures).allMatch(CompletableFuture::isDone);
+        }
+
+        @Test
+        @DisplayName("Keep the order of the items sent with and without waiting for demand")
+        void mixedSends() {
+            AtomicReference<Tube<Integer>> tubeRef = new AtomicReference<>();
+            AssertSubscriber<Integer> sub = AssertSubscriber.create();
+            TubeConfiguration configuration = new TubeConfiguration()
+                    .withBackpressureStrategy(BackpressureStrategy.BUFFER)
+                    .withBufferSize(16);
+            ZeroPublisher.create(configuration, tubeRef::set).subscribe(sub);
+
+            Tube<Integer> tube = tubeRef.get();
+            CompletableFuture<Void> first = tube.sendAsync(1).toCompletableFuture();
+            tube.send(2);
+            tube.sendAsync(3);
+            tube.sendAll(List.of(4, 5));
+
+            sub.request(1L);
+            sub.assertItems(1);
+            assertThat(first).isCompleted();
+
+            // The pending items are not overtaken by the items sent while there is demand
+            sub.request(10L);
+            tube.send(6);
+            sub.assertItems(1, 2, 3, 4, 5, 6);
+        }
+
+        @Test
+        @DisplayName("Poll for demand in the default implementation")
+        void defaultImplementation() {
+            MinimalTube<Integer> tube = new MinimalTube<>();
+            CompletableFuture<Void> demand = tube.awaitDemand().toCompletableFuture();
+            assertThat(demand).isNotDone();
+            tube.requested.set(1L);
+            await().until(demand::isDone);
+
+            // The demand is consumed by the first item, so the second one waits for the next request
+            CompletableFuture<Void> first = tube.sendAsync(1).toCompletableFuture();
+            await().until(first::isDone);
+            CompletableFuture<Void> second = tube.sendAsync(2).toCompletableFuture();
+            assertThat(second).isNotDone();
+            tube.requested.set(1L);
+            await().until(second::isDone);
+            assertThat(tube.items).containsExactly(1, 2);
+
+            tube.cancelled = true;
+            assertThatThrownBy(() -> tube.awaitDemand().toCompletableFuture().join())
+                    .isInstanceOf(CancellationException.class);
+        }
+
+        @Test
+        @DisplayName("Do not send from the requesting thread nor beyond demand with a single producer")
+        void singleProducerWithReentrantRequests() {
+            List<Integer> items = new CopyOnWriteArrayList<>();
+            AtomicReference<Throwable> failure = new AtomicReference<>();
+            AtomicBoolean completed = new AtomicBoolean();
+            List<CompletableFuture<Void>> futures = new CopyOnWriteArrayList<>();
+            AtomicReference<Flow.Subscription> subscriptionRef = new AtomicReference<>();
+
+            TubeConfiguration configuration = new TubeConfiguration()
+                    .withBackpressureStrategy(BackpressureStrategy.BUFFER)
+                    .withBufferSize(4)
+                    .withSingleProducer(true);
+            ZeroPublisher.<Integer> create(configuration, tube -> {
+                new Thread(() -> {
+                    for (int i = 0; i < 1000; i++) {
+                        futures.add(tube.sendAsync(i).toCompletableFuture());
+                    }
+                    tube.complete();
+                }).start();
+            }).subscribe(new Flow.Subscriber<>() {
+
+                @Override
+                public void onSubscribe(Flow.Subscription subscription) {
+                    subscriptionRef.set(subscription);
+                }
+
+                @Override
+                public void onNext(Integer item) {
+                    items.add(item);
+                    subscriptionRef.get().request(1L);
+                }
+
+                @Override
+                public void onError(Throwable throwable) {
+                    failure.set(throwable);
+                }
+
+                @Override
+                public void onComplete() {
+                    completed.set(true);
+                }
+            });
+
+            // Request from this thread while the producer is still sending, then request again from onNext
+            await().until(() -> futures.size() >= 100);
+            subscriptionRef.get().request(1L);
+
+            await().until(() -> completed.get() || failure.get() != null);
+            assertThat(failure).hasValue(null);
+            assertThat(items).isEqualTo(IntStream.range(0, 1000).boxed().collect(Collectors.toList()));
+            assertThat(futures).hasSize(1000).allMatch(future -> future.isDone() && !future.isCompletedExceptionally());
+        }
+
+        @Test
+        @DisplayName("Fail on cancellation")
+        void cancellation() {
+            AtomicReference<Tube<Integer>> tubeRef = new AtomicReference<>();
+            AssertSubscriber<Integer> sub = AssertSubscriber.create();
+            ZeroPublisher.<Integer> create(new TubeConfiguration(), tubeRef::set).subscribe(sub);
+
+            CompletableFuture<Void> future = tubeRef.get().sendAsync(1).toCompletableFuture();
+            sub.cancel();
+            assertThat(future).isCompletedExceptionally();
+            assertThatThrownBy(future::join).isInstanceOf(CancellationException.class);
+            sub.assertHasNotReceivedAnyItem();
+        }
+
+        @Test
+        @DisplayName("Fail on tube failure")
+        void failure() {
+            AtomicReference<Tube<Integer>> tubeRef = new AtomicReference<>();
+            AssertSubscriber<Integer> sub = AssertSubscriber.create();
+            ZeroPublisher.<Integer> create(new TubeConfiguration(), tubeRef::set).subscribe(sub);
+
+            CompletableFuture<Void> future = tubeRef.get().sendAsync(1).toCompletableFuture();
+            tubeRef.get().fail(new IOException("boom"));
+            assertThatThrownBy(future::join).hasCauseInstanceOf(IOException.class);
+            sub.assertFailedWith(IOException.class, "boom");
+        }
+    }
+
+    // Only implements the abstract Tube methods, to check the default ones
+    static class MinimalTube<T> implements Tube<T> {
+
+        final List<T> items = new CopyOnWriteArrayList<>();
+        final AtomicLong requested = new AtomicLong();
+        volatile boolean cancelled;
+
+        @Override
+        public Tube<T> send(T item) {
+            items.add(item);
+            requested.decrementAndGet();
+            return this;
+        }
+
+        @Override
+        public void fail(Throwable err) {
+            cancelled = true;
+        }
+
+        @Override
+        public void complete() {
+            cancelled = true;
+        }
+
+        @Override
+        public boolean cancelled() {
+            return cancelled;
+        }
+
+        @Override
+        public long outstandingRequests() {
+            return requested.get();
+        }
+
+        @Override
+        public Tube<T> whenCancelled(Runnable action) {
+            return this;
+        }
+
+        @Override
+        public Tube<T> whenTerminates(Runnable action) {
+            return this;
+        }
+
+        @Override
+        public Tube<T> whenRequested(LongConsumer consumer) {
+            return this;
+        }
+    }
 }
@@ -0,0 +1,106 @@
+package mutiny.zero.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Linked array queues tests")
+class LinkedArrayQueuesTest {
+
+    @Test
+    @DisplayName("SPSC queue preserves ordering across chunks")
+    void spscOrdering() {
+        checkOrdering(new SpscLinkedArrayQueue<>());
+    }
+
+    @Test
+    @DisplayName("MPSC queue preserves ordering across chunks")
+    void mpscOrdering() {
+        checkOrdering(new MpscLinkedArrayQueue<>());
+    }
+
+    private void checkOrdering(Queue<Integer> queue) {
+        assertThat(queue.isEmpty()).isTrue();
+        assertThat(queue.poll()).isNull();
+        assertThat(queue.peek()).isNull();
+
+        int count = 10 * MpscLinkedArrayQueue.CHUNK_SIZE + 3;
+        for (int i = 0; i < count; i++) {
+            queue.offer(i);
+            if (i % 3 == 0) {
+                // Interleave some consumption with production
+                assertThat(queue.peek()).isEqualTo(queue.poll());
+            }
+        }
+        int expected = count - queue.size();
+        Integer item;
+        while ((item = queue.poll()) != null) {
+            assertThat(item).isEqualTo(expected++);
+        }
+        assertThat(expected).isEqualTo(count);
+        assertThat(queue.isEmpty()).isTrue();
+        assertThat(queue.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Reject null items")
+    void rejectNull() {
+        assertThatThrownBy(() -> new SpscLinkedArrayQueue<>().offer(null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> new MpscLinkedArrayQueue<>().offer(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    @DisplayName("MPSC queue with concurrent producers")
+    void mpscConcurrentProducers() throws InterruptedException {
+        MpscLinkedArrayQueue<Integer> queue = new MpscLinkedArrayQueue<>();
+        int producers = 4;
+        int perProducer = 10_000;
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            int offset = p * perProducer;
+            Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    throw new RuntimeException(e);
+                }
+                for (int i = 0; i < perProducer; i++) {
+                    queue.offer(offset + i);
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+
+        start.countDown();
+        int[] last = new int[producers];
+        Arrays.fill(last, -1);
+        int received = 0;
+        while (received < producers * perProducer) {
+            Integer item = queue.poll();
+            if (item != null) {
+                int producer = item / perProducer;
+                int value = item % perProducer;
+                // Items from a given producer must be received in order
+                assertThat(value).isGreaterThan(last[producer]);
+                last[producer] = value;
+                received++;
+            }
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertThat(queue.isEmpty()).isTrue();
+    }
+}
@@ -0,0 +1,66 @@
+package mutiny.zero.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("SPSC array queue tests")
+class SpscArrayQueueTest {
+
+    @Test
+    @DisplayName("Reject bad capacities and null items")
+    void badArguments() {
+        assertThatThrownBy(() -> new SpscArrayQueue<>(0))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new SpscArrayQueue<>(SpscArrayQueue.MAX_CAPACITY + 1))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new SpscArrayQueue<>(4).offer(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    @DisplayName("Enforce a capacity that is not a power of two and preserve ordering")
+    void exactCapacity() {
+        SpscArrayQueue<Integer> queue = new SpscArrayQueue<>(3);
+        int expected = 0;
+        for (int i = 0; i < 100; i++) {
+            assertThat(queue.offer(i)).isTrue();
+            if (queue.size() == 3) {
+                assertThat(queue.offer(-1)).isFalse();
+                assertThat(queue.peek()).isEqualTo(expected);
+                assertThat(queue.poll()).isEqualTo(expected++);
+            }
+        }
+        queue.clear();
+        assertThat(queue.isEmpty()).isTrue();
+        assertThat(queue.poll()).isNull();
+    }
+
+    @Test
+    @DisplayName("Concurrent producer and consumer")
+    void concurrentProducerAndConsumer() throws InterruptedException {
+        SpscArrayQueue<Integer> queue = new SpscArrayQueue<>(16);
+        int count = 10_000;
+        Thread producer = new Thread(() -> {
+            for (int i = 0; i < count; i++) {
+                while (!queue.offer(i)) {
+                    Thread.yield();
+                }
+            }
+        });
+        producer.start();
+        int expected = 0;
+        while (expected < count) {
+            Integer item = queue.poll();
+            if (item != null) {
+                assertThat(item).isEqualTo(expected++);
+            } else {
+                Thread.yield();
+            }
+        }
+        producer.join();
+        assertThat(queue.isEmpty()).isTrue();
+    }
+}
@@ -0,0 +1,252 @@
+package mutiny.zero.operators;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.mutiny.helpers.test.AssertSubscriber;
+import mutiny.zero.BackpressureStrategy;
+import mutiny.zero.Tube;
+import mutiny.zero.TubeConfiguration;
+import mutiny.zero.ZeroPublisher;
+
+@DisplayName("Buffer operator tests")
+class BufferTest {
+
+    private ScheduledExecutorService scheduler;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = Executors.newSingleThreadScheduledExecutor();
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Reject bad parameters")
+    void rejectBadParameters() {
+        assertThatThrownBy(() -> new Buffer<>(null, 10))
+                .isInstanceOf(NullPointerException.class)
+                .hasMessageContaining("cannot be null");
+        assertThatThrownBy(() -> new Buffer<>(ZeroPublisher.empty(), 0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("size");
+        assertThatThrownBy(() -> new Buffer<>(ZeroPublisher.empty(), 10, null, scheduler))
+                .isInstanceOf(NullPointerException.class)
+                .hasMessageContaining("cannot be null");
+        assertThatThrownBy(() -> new Buffer<>(ZeroPublisher.empty(), 10, Duration.ZERO, scheduler))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("latency");
+        assertThatThrownBy(() -> new Buffer<>(ZeroPublisher.empty(), 10, Duration.ofSeconds(1), null))
+                .isInstanceOf(NullPointerException.class)
+                .hasMessageContaining("cannot be null");
+    }
+
+    @Test
+    @DisplayName("Group elements by size")
+    void bySize() {
+        Buffer<Integer> operator = new Buffer<>(ZeroPublisher.range(0, 10), 3);
+
+        AssertSubscriber<List<Integer>> sub = AssertSubscriber.create(Long.MAX_VALUE);
+        operator.subscribe(sub);
+
+        sub.assertCompleted().assertItems(
+                Arrays.asList(0, 1, 2),
+                Arrays.asList(3, 4, 5),
+                Arrays.asList(6, 7, 8),
+                Arrays.asList(9));
+    }
+
+    @Test
+    @DisplayName("Complete without emitting for empty publishers")
+    void empty() {
+        Buffer<Integer> operator = new Buffer<>(ZeroPublisher.empty(), 3);
+
+        AssertSubscriber<List<Integer>> sub = AssertSubscriber.create(10);
+        operator.subscribe(sub);
+
+        sub.assertCompleted().assertHasNotReceivedAnyItem();
+    }
+
+    @Test
+    @DisplayName("Request size times the downstream demand from upstream")
+    void upstreamDemand() {
+        List<Long> requests = new CopyOnWriteArrayList<>();
+        Flow.Publisher<Integer> source = ZeroPublisher.create(new TubeConfiguration(),
+                tube -> tube.whenRequested(requests::add));
+        Buffer<Integer> operator = new Buffer<>(source, 100);
+
+        AssertSubscriber<List<Integer>> sub = AssertSubscriber.create(0);
+        operator.subscribe(sub);
+        sub.request(2);
+        sub.request(Long.MAX_VALUE);
+
+        assertThat(requests).containsExactly(200L, Long.MAX_VALUE);
+    }
+
+    @Test
+    @DisplayName("Emit partial lists after the maximum latency")
+    void byTime() {
+        AtomicReference<Tube<Integer>> tubeRef = new AtomicReference<>();
+        Flow.Publisher<Integer> source = ZeroPublisher.create(
+                new TubeConfiguration().withBackpressureStrategy(BackpressureStrategy.BUFFER).withBufferSize(256),
+                tubeRef::set);
+        Buffer<Integer> operator = new Buffer<>(source, 100, Duration.ofMillis(50), scheduler);
+
+        AssertSubscriber<List<Integer>> sub = AssertSubscriber.create(Long.MAX_VALUE);
+        operator.subscribe(sub);
+        Tube<Integer> tube = tubeRef.get();
+        tube.send(1);
+        tube.send(2);
+
+        sub.awaitItems(1, Duration.ofSeconds(5));
+        assertThat(sub.getItems().get(0)).containsExactly(1, 2);
+
+        tube.send(3);
+        tube.complete();
+        sub.awaitCompletion(Duration.ofSeconds(5));
+        assertThat(sub.getItems()).hasSize(2);
+        assertThat(sub.getItems().get(1)).containsExactly(3);
+    }
+
+    @Test
+    @DisplayName("Only request the elements missing after partial lists have been emitted")
+    void upstreamDemandAfterPartialLists() {
+        List<Long> requests = new CopyOnWriteArrayList<>();
+        AtomicReference<Tube<Integer>> tubeRef = new AtomicReference<>();
+        Flow.Publisher<Integer> source = ZeroPublisher.create(new TubeConfiguration(), tube -> {
+            tube.whenRequested(requests::add);
+            tubeRef.set(tube);
+        });
+        Buffer<Integer> operator = new Buffer<>(source, 100, Duration.ofMillis(10), scheduler);
+
+        AssertSubscriber<List<Integer>> sub = AssertSubscriber.create(0);
+        operator.subscribe(sub);
+        Tube<Integer> tube = tubeRef.get();
+        for (int i = 1; i <= 20; i++) {
+            sub.request(1);
+            for (int j = 0; j < 4; j++) {
+                tube.send(j);
+            }
+            sub.awaitItems(i, Duration.ofSeconds(5));
+        }
+
+        assertThat(sub.getItems()).hasSize(20).allSatisfy(list -> assertThat(list).hasSize(4));
+        assertThat(requests.get(0)).isEqualTo(100L);
+        assertThat(requests.subList(1, requests.size())).containsOnly(4L);
+        assertThat(requests.stream().mapToLong(Long::longValue).sum()).isEqualTo(100L + 19 * 4);
+    }
+
+    @Test
+    @DisplayName("Accept maximum latencies that overflow in nanoseconds")
+    void hugeLatency() {
+        Buffer<Integer> operator = new Buffer<>(ZeroPublisher.range(0, 5), 3, Duration.ofSeconds(Long.MAX_VALUE),
+                scheduler);
+
+        AssertSubscriber<List<Integer>> sub = AssertSubscriber.create(Long.MAX_VALUE);
+        operator.subscribe(sub);
+
+        sub.assertCompleted().assertItems(Arrays.asList(0, 1, 2), Arrays.asList(3, 4));
+    }
+
+    @Test
+    @DisplayName("Hold lists emitted on time until there is demand")
+    void byTimeWithoutDemand() throws InterruptedException {
+        AtomicReference<Tube<Integer>> tubeRef = new AtomicReference<>();
+        Flow.Publisher<Integer> source = ZeroPublisher.create(
+                new TubeConfiguration().withBackpressureStrategy(BackpressureStrategy.BUFFER).withBufferSize(256),
+                tubeRef::set);
+        Buffer<Integer> operator = new Buffer<>(source, 2, Duration.ofMillis(20), scheduler);
+
+        AssertSubscriber<List<Integer>> sub = AssertSubscriber.create(1);
+        operator.subscribe(sub);
+        Tube<Integer> tube = tubeRef.get();
+        tube.send(1);
+        sub.awaitItems(1, Duration.ofSeconds(5));
+
+        tube.send(2);
+        Thread.sleep(100);
+        assertThat(sub.getItems()).hasSize(1);
+
+        sub.request(1);
+        sub.awaitItems(2, Duration.ofSeconds(5));
+        assertThat(sub.getItems()).containsExactly(Arrays.asList(1), Arrays.asList(2));
+    }
+
+    @Test
+    @DisplayName("Forward failures and discard pending elements")
+    void failure() {
+        Flow.Publisher<Integer> source = ZeroPublisher.create(new TubeConfiguration(), tube -> {
+            tube.send(1);
+            tube.fail(new RuntimeException("boom"));
+        });
+        Buffer<Integer> operator = new Buffer<>(source, 3, Duration.ofSeconds(10), scheduler);
+
+        AssertSubscriber<List<Integer>> sub = AssertSubscriber.create(10);
+        operator.subscribe(sub);
+
+        sub.assertFailedWith(RuntimeException.class, "boom").assertHasNotReceivedAnyItem();
+    }
+
+    @Test
+    @DisplayName("Reject bad requests")
+    void badRequest() {
+        AtomicBoolean cancelled = new AtomicBoolean();
+        Flow.Publisher<Integer> source = ZeroPublisher.create(new TubeConfiguration(),
+                tube -> tube.whenCancelled(() -> cancelled.set(true)));
+        Buffer<Integer> operator = new Buffer<>(source, 3);
+
+        AssertSubscriber<List<Integer>> sub = AssertSubscriber.create(0);
+        operator.subscribe(sub);
+        sub.request(-1L);
+
+        sub.assertFailedWith(IllegalArgumentException.class, "non-positive subscription request");
+        assertThat(cancelled).isTrue();
+    }
+
+    @Test
+    @DisplayName("Cancel the upstream publisher")
+    void cancel() {
+        AtomicBoolean cancelled = new AtomicBoolean();
+        Flow.Publisher<Integer> source = ZeroPublisher.create(new TubeConfiguration(),
+                tube -> tube.whenCancelled(() -> cancelled.set(true)));
+        Buffer<Integer> operator = new Buffer<>(source, 3, Duration.ofSeconds(10), scheduler);
+
+        AssertSubscriber<List<Integer>> sub = AssertSubscriber.create(10);
+        operator.subscribe(sub);
+        sub.cancel();
+
+        assertThat(cancelled).isTrue();
+        sub.assertNotTerminated();
+    }
+
+    @Test
+    @DisplayName("Fail when the scheduler rejects timers")
+    void rejectedTimer() {
+        scheduler.shutdownNow();
+        Buffer<Integer> operator = new Buffer<>(ZeroPublisher.range(0, 10), 3, Duration.ofSeconds(1), scheduler);
+
+        AssertSubscriber<List<Integer>> sub = AssertSubscriber.create(10);
+        operator.subscribe(sub);
+
+        sub.assertFailedWith(RejectedExecutionException.class);
+    }
+}
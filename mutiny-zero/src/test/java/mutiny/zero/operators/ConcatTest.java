@@ -0,0 +1,188 @@
+package mutiny.zero.operators;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.mutiny.helpers.test.AssertSubscriber;
+import mutiny.zero.TubeConfiguration;
+import mutiny.zero.ZeroPublisher;
+
+@DisplayName("Concat operator tests")
+class ConcatTest {
+
+    @Test
+    @DisplayName("Reject null publishers")
+    void rejectNullPublishers() {
+        assertThatThrownBy(() -> new Concat<>(null))
+                .isInstanceOf(NullPointerException.class)
+                .hasMessageContaining("cannot be null");
+    }
+
+    @Test
+    @DisplayName("Concatenate publishers")
+    void concatenate() {
+        Flow.Publisher<Integer> publisher = ZeroPublisher.concat(
+                ZeroPublisher.fromItems(1, 2, 3),
+                ZeroPublisher.empty(),
+                ZeroPublisher.fromIterable(Arrays.asList(4, 5)),
+                ZeroPublisher.fromCompletionStage(() -> CompletableFuture.completedFuture(6)));
+
+        AssertSubscriber<Integer> sub = AssertSubscriber.create(Long.MAX_VALUE);
+        publisher.subscribe(sub);
+
+        sub.assertCompleted().assertItems(1, 2, 3, 4, 5, 6);
+    }
+
+    @Test
+    @DisplayName("Complete right away when there are no publishers")
+    void noPublishers() {
+        AssertSubscriber<Integer> sub = AssertSubscriber.create(10);
+        new Concat<Integer>(Collections.emptyList()).subscribe(sub);
+
+        sub.assertCompleted().assertHasNotReceivedAnyItem();
+    }
+
+    @Test
+    @DisplayName("Carry the outstanding demand across publishers")
+    void carryDemand() {
+        List<Long> requests = new ArrayList<>();
+        Flow.Publisher<Integer> first = tracking(ZeroPublisher.range(0, 3), requests);
+        Flow.Publisher<Integer> second = tracking(ZeroPublisher.range(3, 10), requests);
+
+        AssertSubscriber<Integer> sub = AssertSubscriber.create(5);
+        ZeroPublisher.concat(first, second).subscribe(sub);
+
+        sub.assertNotTerminated().assertItems(0, 1, 2, 3, 4);
+        assertThat(requests).containsExactly(5L, 2L);
+
+        sub.request(10);
+        sub.assertCompleted();
+        assertThat(sub.getItems()).hasSize(10);
+        assertThat(requests).containsExactly(5L, 2L, 10L);
+    }
+
+    @Test
+    @DisplayName("Concatenate many synchronous publishers without growing the stack")
+    void manyPublishers() {
+        List<Flow.Publisher<Integer>> publishers = new ArrayList<>();
+        for (int i = 0; i < 20_000; i++) {
+            publishers.add((i % 2 == 0) ? ZeroPublisher.fromItems(i) : ZeroPublisher.empty());
+        }
+
+        AssertSubscriber<Integer> sub = AssertSubscriber.create(Long.MAX_VALUE);
+        new Concat<>(publishers).subscribe(sub);
+
+        sub.assertCompleted();
+        assertThat(sub.getItems()).hasSize(10_000);
+    }
+
+    @Test
+    @DisplayName("Concatenate asynchronous publishers")
+    void asynchronousPublishers() {
+        CompletableFuture<Integer> future = new CompletableFuture<>();
+        Flow.Publisher<Integer> publisher = ZeroPublisher.concat(
+                ZeroPublisher.fromCompletionStage(() -> future),
+                ZeroPublisher.fromItems(2, 3));
+
+        AssertSubscriber<Integer> sub = AssertSubscriber.create(2);
+        publisher.subscribe(sub);
+        sub.assertNotTerminated().assertHasNotReceivedAnyItem();
+
+        new Thread(() -> future.complete(1)).start();
+        sub.awaitItems(2, Duration.ofSeconds(5)).assertItems(1, 2).assertNotTerminated();
+        sub.request(1);
+        sub.assertCompleted().assertItems(1, 2, 3);
+    }
+
+    @Test
+    @DisplayName("Stop at the first failure")
+    void failure() {
+        AtomicInteger subscriptions = new AtomicInteger();
+        Flow.Publisher<Integer> publisher = ZeroPublisher.concat(
+                ZeroPublisher.fromItems(1),
+                ZeroPublisher.fromFailure(new RuntimeException("boom")),
+                subscriber -> {
+                    subscriptions.incrementAndGet();
+                    ZeroPublisher.fromItems(2).subscribe(subscriber);
+                });
+
+        AssertSubscriber<Integer> sub = AssertSubscriber.create(10);
+        publisher.subscribe(sub);
+
+        sub.assertFailedWith(RuntimeException.class, "boom").assertItems(1);
+        assertThat(subscriptions).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("Fail on null publishers")
+    void nullPublisher() {
+        AssertSubscriber<Integer> sub = AssertSubscriber.create(10);
+        new Concat<>(Arrays.asList(ZeroPublisher.fromItems(1), null)).subscribe(sub);
+
+        sub.assertFailedWith(NullPointerException.class, "index 1").assertItems(1);
+    }
+
+    @Test
+    @DisplayName("Cancel the current publisher")
+    void cancel() {
+        AtomicBoolean cancelled = new AtomicBoolean();
+        Flow.Publisher<Integer> publisher = ZeroPublisher.concat(
+                ZeroPublisher.fromItems(1),
+                ZeroPublisher.create(new TubeConfiguration(), tube -> tube.whenCancelled(() -> cancelled.set(true))));
+
+        AssertSubscriber<Integer> sub = AssertSubscriber.create(10);
+        publisher.subscribe(sub);
+        sub.cancel();
+
+        assertThat(cancelled).isTrue();
+        sub.assertItems(1).assertNotTerminated();
+    }
+
+    private static <T> Flow.Publisher<T> tracking(Flow.Publisher<T> publisher, List<Long> requests) {
+        return subscriber -> publisher.subscribe(new Flow.Subscriber<T>() {
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                subscriber.onSubscribe(new Flow.Subscription() {
+                    @Override
+                    public void request(long n) {
+                        requests.add(n);
+                        subscription.request(n);
+                    }
+
+                    @Override
+                    public void cancel() {
+                        subscription.cancel();
+                    }
+                });
+            }
+
+            @Override
+            public void onNext(T item) {
+                subscriber.onNext(item);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                subscriber.onError(throwable);
+            }
+
+            @Override
+            public void onComplete() {
+                subscriber.onComplete();
+            }
+        });
+    }
+}
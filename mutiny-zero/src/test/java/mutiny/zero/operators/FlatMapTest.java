@@ -0,0 +1,221 @@
+package mutiny.zero.operators;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.mutiny.helpers.test.AssertSubscriber;
+import mutiny.zero.TubeConfiguration;
+import mutiny.zero.ZeroPublisher;
+
+@DisplayName("FlatMap operator tests")
+class FlatMapTest {
+
+    @Test
+    @DisplayName("Reject bad parameters")
+    void rejectBadParameters() {
+        assertThatThrownBy(() -> new FlatMap<>(null, n -> ZeroPublisher.empty()))
+                .isInstanceOf(NullPointerException.class)
+                .hasMessageContaining("cannot be null");
+        assertThatThrownBy(() -> new FlatMap<>(ZeroPublisher.empty(), null))
+                .isInstanceOf(NullPointerException.class)
+                .hasMessageContaining("cannot be null");
+        assertThatThrownBy(() -> new FlatMap<>(ZeroPublisher.empty(), n -> ZeroPublisher.empty(), 0, 16))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("concurrency");
+        assertThatThrownBy(() -> new FlatMap<>(ZeroPublisher.empty(), n -> ZeroPublisher.empty(), 4, 0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("prefetch");
+    }
+
+    @Test
+    @DisplayName("Map elements to publishers and merge them")
+    void flatMap() {
+        FlatMap<Integer, Integer> operator = new FlatMap<>(ZeroPublisher.range(0, 100),
+                n -> ZeroPublisher.range(n * 10, n * 10 + 10), 4, 8);
+
+        AssertSubscriber<Integer> sub = AssertSubscriber.create(Long.MAX_VALUE);
+        operator.subscribe(sub);
+
+        sub.assertCompleted();
+        assertThat(sub.getItems()).containsExactlyInAnyOrderElementsOf(range(0, 1000));
+    }
+
+    @Test
+    @DisplayName("Short-circuit scalar and empty inner publishers")
+    void scalars() {
+        AtomicInteger suppliers = new AtomicInteger();
+        FlatMap<Integer, Integer> operator = new FlatMap<>(ZeroPublisher.range(0, 300), n -> {
+            switch (n % 3) {
+                case 0:
+                    return ZeroPublisher.fromItems(n);
+                case 1:
+                    return ZeroPublisher.fromCompletionStage(() -> {
+                        suppliers.incrementAndGet();
+                        return CompletableFuture.completedFuture(n);
+                    });
+                default:
+                    return ZeroPublisher.empty();
+            }
+        }, 8, 8);
+
+        AssertSubscriber<Integer> sub = AssertSubscriber.create(Long.MAX_VALUE);
+        operator.subscribe(sub);
+
+        sub.assertCompleted();
+        assertThat(sub.getItems()).hasSize(200);
+        assertThat(suppliers).hasValue(100);
+    }
+
+    @Test
+    @DisplayName("Honour the downstream demand with scalar inner publishers")
+    void scalarsDemand() {
+        FlatMap<Integer, Integer> operator = new FlatMap<>(ZeroPublisher.range(0, 100),
+                n -> ZeroPublisher.fromItems(n), 4, 8);
+
+        AssertSubscriber<Integer> sub = AssertSubscriber.create(0);
+        operator.subscribe(sub);
+        sub.request(10);
+
+        sub.assertNotTerminated();
+        assertThat(sub.getItems()).containsExactlyElementsOf(range(0, 10));
+        sub.request(90);
+        sub.assertCompleted();
+        assertThat(sub.getItems()).containsExactlyElementsOf(range(0, 100));
+    }
+
+    @Test
+    @DisplayName("Call completion stage suppliers only once")
+    void pendingCompletionStage() {
+        AtomicInteger suppliers = new AtomicInteger();
+        CompletableFuture<Integer> future = new CompletableFuture<>();
+        FlatMap<Integer, Integer> operator = new FlatMap<>(ZeroPublisher.fromItems(1),
+                n -> ZeroPublisher.fromCompletionStage(() -> {
+                    suppliers.incrementAndGet();
+                    return future;
+                }));
+
+        AssertSubscriber<Integer> sub = AssertSubscriber.create(10);
+        operator.subscribe(sub);
+        sub.assertNotTerminated();
+        future.complete(42);
+
+        sub.assertCompleted().assertItems(42);
+        assertThat(suppliers).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Subscribe to completion stages that cannot be converted to futures")
+    void unsupportedToCompletableFuture() {
+        FlatMap<Integer, Integer> operator = new FlatMap<>(ZeroPublisher.fromItems(1, 2, 3),
+                n -> ZeroPublisher.fromCompletionStage(() -> {
+                    CompletableFuture<Integer> stage = new CompletableFuture<>() {
+                        @Override
+                        public CompletableFuture<Integer> toCompletableFuture() {
+                            throw new UnsupportedOperationException();
+                        }
+                    };
+                    stage.complete(n * 10);
+                    return stage;
+                }));
+
+        AssertSubscriber<Integer> sub = AssertSubscriber.create(10);
+        operator.subscribe(sub);
+        sub.assertCompleted().assertItems(10, 20, 30);
+    }
+
+    @Test
+    @DisplayName("Bound the number of inner publishers being subscribed")
+    void maxConcurrency() {
+        AtomicInteger active = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            FlatMap<Integer, Integer> operator = new FlatMap<>(ZeroPublisher.range(0, 200), n -> ZeroPublisher
+                    .create(new TubeConfiguration(), tube -> {
+                        peak.accumulateAndGet(active.incrementAndGet(), Math::max);
+                        executor.execute(() -> {
+                            tube.send(n);
+                            active.decrementAndGet();
+                            tube.complete();
+                        });
+                    }), 4, 8);
+
+            AssertSubscriber<Integer> sub = AssertSubscriber.create(Long.MAX_VALUE);
+            operator.subscribe(sub);
+
+            sub.awaitCompletion(Duration.ofSeconds(10));
+            assertThat(new HashSet<>(sub.getItems())).hasSize(200);
+            assertThat(peak.get()).isLessThanOrEqualTo(4);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Fail when the mapper fails")
+    void mapperFailure() {
+        AtomicBoolean cancelled = new AtomicBoolean();
+        Flow.Publisher<Integer> source = ZeroPublisher.create(new TubeConfiguration(), tube -> {
+            tube.whenCancelled(() -> cancelled.set(true));
+            tube.whenRequested(n -> tube.send(1));
+        });
+        FlatMap<Integer, Integer> operator = new FlatMap<>(source, n -> {
+            throw new IllegalStateException("boom");
+        });
+
+        AssertSubscriber<Integer> sub = AssertSubscriber.create(10);
+        operator.subscribe(sub);
+
+        sub.assertFailedWith(IllegalStateException.class, "boom");
+        assertThat(cancelled).isTrue();
+    }
+
+    @Test
+    @DisplayName("Fail on null inner publishers")
+    void nullPublisher() {
+        FlatMap<Integer, Integer> operator = new FlatMap<>(ZeroPublisher.fromItems(1), n -> null);
+
+        AssertSubscriber<Integer> sub = AssertSubscriber.create(10);
+        operator.subscribe(sub);
+
+        sub.assertFailedWith(NullPointerException.class, "null publisher");
+    }
+
+    @Test
+    @DisplayName("Fail when an inner publisher fails")
+    void innerFailure() {
+        AtomicBoolean cancelled = new AtomicBoolean();
+        Flow.Publisher<Integer> pending = ZeroPublisher.create(new TubeConfiguration(),
+                tube -> tube.whenCancelled(() -> cancelled.set(true)));
+        FlatMap<Integer, Integer> operator = new FlatMap<>(ZeroPublisher.fromItems(1, 2),
+                n -> (n == 1) ? pending : ZeroPublisher.fromFailure(new RuntimeException("boom")));
+
+        AssertSubscriber<Integer> sub = AssertSubscriber.create(10);
+        operator.subscribe(sub);
+
+        sub.assertFailedWith(RuntimeException.class, "boom");
+        assertThat(cancelled).isTrue();
+    }
+
+    private static List<Integer> range(int start, int end) {
+        List<Integer> list = new ArrayList<>();
+        for (int i = start; i < end; i++) {
+            list.add(i);
+        }
+        return list;
+    }
+}
@@ -0,0 +1,116 @@
+package mutiny.zero.operators;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.mutiny.helpers.test.AssertSubscriber;
+import mutiny.zero.ZeroPublisher;
+
+@DisplayName("Transform and select fusion tests")
+class FusionTest {
+
+    @Test
+    @DisplayName("Apply a chain of operators")
+    void chain() {
+        Flow.Publisher<Integer> source = ZeroPublisher.range(0, 20);
+        Flow.Publisher<String> chain = new Transform<>(
+                new Select<>(
+                        new Transform<>(
+                                new Select<>(source, n -> n % 2 == 0),
+                                n -> n * 10),
+                        n -> n > 50),
+                n -> "@" + n);
+
+        AssertSubscriber<String> sub = AssertSubscriber.create(Long.MAX_VALUE);
+        chain.subscribe(sub);
+
+        sub.assertCompleted().assertItems("@60", "@80", "@100", "@120", "@140", "@160", "@180");
+    }
+
+    @Test
+    @DisplayName("Subscribe a single processor to the source")
+    void singleProcessor() {
+        AtomicReference<Flow.Subscriber<? super Integer>> sourceSubscriber = new AtomicReference<>();
+        Flow.Publisher<Integer> source = subscriber -> {
+            sourceSubscriber.set(subscriber);
+            ZeroPublisher.fromItems(1, 2, 3).subscribe(subscriber);
+        };
+        Flow.Publisher<Integer> chain = new Select<>(new Transform<>(new Transform<>(source, n -> n + 1), n -> n * 2),
+                n -> true);
+
+        AtomicReference<Flow.Subscription> downstreamSubscription = new AtomicReference<>();
+        List<Integer> items = new ArrayList<>();
+        chain.subscribe(new Flow.Subscriber<>() {
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                downstreamSubscription.set(subscription);
+                subscription.request(Long.MAX_VALUE);
+            }
+
+            @Override
+            public void onNext(Integer item) {
+                items.add(item);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                // Nothing here
+            }
+
+            @Override
+            public void onComplete() {
+                // Nothing here
+            }
+        });
+
+        assertThat(items).containsExactly(4, 6, 8);
+        assertThat(downstreamSubscription.get()).isSameAs(sourceSubscriber.get());
+    }
+
+    @Test
+    @DisplayName("Stop on the failure of a fused operator")
+    void failure() {
+        Flow.Publisher<Integer> chain = new Transform<>(new Transform<Integer, Integer>(ZeroPublisher.fromItems(1, 2, 3), n -> {
+            if (n == 2) {
+                throw new IllegalStateException("boom");
+            }
+            return n;
+        }), n -> n * 10);
+
+        AssertSubscriber<Integer> sub = AssertSubscriber.create(Long.MAX_VALUE);
+        chain.subscribe(sub);
+
+        sub.assertItems(10).assertFailedWith(IllegalStateException.class, "boom");
+    }
+
+    @Test
+    @DisplayName("Reject null results from a fused transformation")
+    void nullResult() {
+        Flow.Publisher<Integer> chain = new Select<>(new Transform<Integer, Integer>(ZeroPublisher.fromItems(1, 2, 3),
+                n -> (n == 3) ? null : n), n -> true);
+
+        AssertSubscriber<Integer> sub = AssertSubscriber.create(Long.MAX_VALUE);
+        chain.subscribe(sub);
+
+        sub.assertItems(1, 2).assertFailedWith(NullPointerException.class, "null result for item 3");
+    }
+
+    @Test
+    @DisplayName("Subscribe several times to a fused chain")
+    void resubscribe() {
+        Flow.Publisher<Integer> chain = new Transform<>(new Select<>(ZeroPublisher.range(0, 6), n -> n % 3 == 0), n -> -n);
+
+        for (int i = 0; i < 3; i++) {
+            AssertSubscriber<Integer> sub = AssertSubscriber.create(Long.MAX_VALUE);
+            chain.subscribe(sub);
+            sub.assertCompleted().assertItems(0, -3);
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package mutiny.zero.operators;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.mutiny.helpers.test.AssertSubscriber;
+import mutiny.zero.BackpressureStrategy;
+import mutiny.zero.TubeConfiguration;
+import mutiny.zero.ZeroPublisher;
+
+@DisplayName("Merge operator tests")
+class MergeTest {
+
+    @Test
+    @DisplayName("Reject bad parameters")
+    void rejectBadParameters() {
+        assertThatThrownBy(() -> new Merge<>(null))
+                .isInstanceOf(NullPointerException.class)
+                .hasMessageContaining("cannot be null");
+        assertThatThrownBy(() -> ZeroPublisher.merge(Collections.emptyList(), 0, 16))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("concurrency");
+        assertThatThrownBy(() -> ZeroPublisher.merge(Collections.emptyList(), 4, 0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("prefetch");
+    }
+
+    @Test
+    @DisplayName("Merge publishers")
+    void mergePublishers() {
+        List<Flow.Publisher<Integer>> publishers = Arrays.asList(
+                ZeroPublisher.range(0, 100),
+                ZeroPublisher.range(100, 300),
+                ZeroPublisher.empty(),
+                ZeroPublisher.range(300, 310));
+
+        AssertSubscriber<Integer> sub = AssertSubscriber.create(Long.MAX_VALUE);
+        ZeroPublisher.merge(publishers, 2, 16).subscribe(sub);
+
+        sub.assertCompleted();
+        assertThat(sub.getItems()).hasSize(310).containsExactlyInAnyOrderElementsOf(range(0, 310));
+    }
+
+    @Test
+    @DisplayName("Complete right away when there are no publishers")
+    void noPublishers() {
+        AssertSubscriber<Integer> sub = AssertSubscriber.create(10);
+        new Merge<Integer>(Collections.emptyList()).subscribe(sub);
+
+        sub.assertCompleted().assertHasNotReceivedAnyItem();
+    }
+
+    @Test
+    @DisplayName("Spread the demand fairly across publishers")
+    void fairness() {
+        List<Flow.Publisher<Integer>> publishers = Arrays.asList(
+                ZeroPublisher.range(0, 100),
+                ZeroPublisher.range(100, 200));
+
+        AssertSubscriber<Integer> sub = AssertSubscriber.create(0);
+        new Merge<>(publishers).subscribe(sub);
+        sub.request(10);
+
+        sub.assertNotTerminated();
+        assertThat(sub.getItems()).containsExactly(0, 100, 1, 101, 2, 102, 3, 103, 4, 104);
+    }
+
+    @Test
+    @DisplayName("Subscribe to publishers one at a time")
+    void sequential() {
+        List<Flow.Publisher<Integer>> publishers = Arrays.asList(
+                ZeroPublisher.range(0, 100),
+                ZeroPublisher.range(100, 200),
+                ZeroPublisher.range(200, 300));
+
+        AssertSubscriber<Integer> sub = AssertSubscriber.create(150);
+        ZeroPublisher.merge(publishers, 1, 8).subscribe(sub);
+
+        sub.assertNotTerminated();
+        assertThat(sub.getItems()).containsExactlyElementsOf(range(0, 150));
+        sub.request(Long.MAX_VALUE);
+        sub.assertCompleted();
+        assertThat(sub.getItems()).containsExactlyElementsOf(range(0, 300));
+    }
+
+    @Test
+    @DisplayName("Fail and cancel the other publishers when a publisher fails")
+    void failure() {
+        AtomicBoolean cancelled = new AtomicBoolean();
+        Flow.Publisher<Integer> pending = ZeroPublisher.create(new TubeConfiguration(), tube -> {
+            tube.whenCancelled(() -> cancelled.set(true));
+        });
+        List<Flow.Publisher<Integer>> publishers = Arrays.asList(
+                pending,
+                ZeroPublisher.fromFailure(new RuntimeException("boom")));
+
+        AssertSubscriber<Integer> sub = AssertSubscriber.create(10);
+        new Merge<>(publishers).subscribe(sub);
+
+        sub.assertFailedWith(RuntimeException.class, "boom");
+        assertThat(cancelled).isTrue();
+    }
+
+    @Test
+    @DisplayName("Fail on null publishers")
+    void nullPublisher() {
+        AssertSubscriber<Integer> sub = AssertSubscriber.create(10);
+        new Merge<>(Arrays.asList(ZeroPublisher.range(0, 3), null)).subscribe(sub);
+
+        sub.assertFailedWith(NullPointerException.class, "index 1");
+    }
+
+    @Test
+    @DisplayName("Cancel all publishers")
+    void cancel() {
+        AtomicBoolean first = new AtomicBoolean();
+        AtomicBoolean second = new AtomicBoolean();
+        List<Flow.Publisher<Integer>> publishers = Arrays.asList(
+                ZeroPublisher.create(new TubeConfiguration(), tube -> tube.whenCancelled(() -> first.set(true))),
+                ZeroPublisher.create(new TubeConfiguration(), tube -> tube.whenCancelled(() -> second.set(true))));
+
+        AssertSubscriber<Integer> sub = AssertSubscriber.create(10);
+        new Merge<>(publishers).subscribe(sub);
+        sub.cancel();
+
+        assertThat(first).isTrue();
+        assertThat(second).isTrue();
+    }
+
+    @Test
+    @DisplayName("Merge publishers emitting from concurrent threads")
+    void concurrentPublishers() {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            TubeConfiguration configuration = new TubeConfiguration()
+                    .withBackpressureStrategy(BackpressureStrategy.UNBOUNDED_BUFFER);
+            List<Flow.Publisher<Integer>> publishers = new ArrayList<>();
+            for (int p = 0; p < 4; p++) {
+                int offset = p * 5000;
+                publishers.add(ZeroPublisher.create(configuration, tube -> executor.execute(() -> {
+                    for (int i = 0; i < 5000; i++) {
+                        tube.send(offset + i);
+                    }
+                    tube.complete();
+                })));
+            }
+
+            AssertSubscriber<Integer> sub = AssertSubscriber.create(Long.MAX_VALUE);
+            ZeroPublisher.merge(publishers, 4, 32).subscribe(sub);
+
+            sub.awaitCompletion(Duration.ofSeconds(10));
+            assertThat(sub.getItems()).hasSize(20_000);
+            assertThat(new HashSet<>(sub.getItems())).hasSize(20_000);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static List<Integer> range(int start, int end) {
+        List<Integer> list = new ArrayList<>();
+        for (int i = start; i < end; i++) {
+            list.add(i);
+        }
+        return list;
+    }
+}
@@ -0,0 +1,248 @@
+package mutiny.zero.operators;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.mutiny.helpers.test.AssertSubscriber;
+import mutiny.zero.BackpressureStrategy;
+import mutiny.zero.Tube;
+import mutiny.zero.TubeConfiguration;
+import mutiny.zero.ZeroPublisher;
+
+@DisplayName("Multicast publisher tests")
+class MulticastTest {
+
+    @Test
+    @DisplayName("Reject bad parameters")
+    void rejectBadParameters() {
+        assertThatThrownBy(() -> new Multicast<>(null, 16))
+                .isInstanceOf(NullPointerException.class)
+                .hasMessageContaining("cannot be null");
+        assertThatThrownBy(() -> new Multicast<>(ZeroPublisher.empty(), 0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("buffer size");
+    }
+
+    @Test
+    @DisplayName("Share a single upstream subscription")
+    void shareUpstream() {
+        AtomicInteger subscriptions = new AtomicInteger();
+        AtomicReference<Tube<Integer>> tubeRef = new AtomicReference<>();
+        Flow.Publisher<Integer> source = ZeroPublisher.create(
+                new TubeConfiguration().withBackpressureStrategy(BackpressureStrategy.BUFFER).withBufferSize(64),
+                tube -> {
+                    subscriptions.incrementAndGet();
+                    tubeRef.set(tube);
+                });
+        Flow.Publisher<Integer> multicast = ZeroPublisher.multicast(source, 16);
+
+        AssertSubscriber<Integer> first = AssertSubscriber.create(Long.MAX_VALUE);
+        AssertSubscriber<Integer> second = AssertSubscriber.create(Long.MAX_VALUE);
+        multicast.subscribe(first);
+        multicast.subscribe(second);
+        Tube<Integer> tube = tubeRef.get();
+        for (int i = 0; i < 100; i++) {
+            tube.send(i);
+        }
+        tube.complete();
+
+        assertThat(subscriptions).hasValue(1);
+        first.assertCompleted().assertItems(range(0, 100).toArray(new Integer[0]));
+        second.assertCompleted().assertItems(range(0, 100).toArray(new Integer[0]));
+    }
+
+    @Test
+    @DisplayName("Gate the upstream publisher on the slowest subscriber")
+    void slowestSubscriberGates() {
+        List<Long> requests = new CopyOnWriteArrayList<>();
+        Flow.Publisher<Integer> source = new Transform<>(ZeroPublisher.range(0, 100), n -> n);
+        Multicast<Integer> multicast = new Multicast<>(new Spy<>(source, requests), 4);
+
+        AssertSubscriber<Integer> slow = AssertSubscriber.create(0);
+        multicast.subscribe(slow);
+        AssertSubscriber<Integer> fast = AssertSubscriber.create(Long.MAX_VALUE);
+        multicast.subscribe(fast);
+        assertThat(requests).containsExactly(4L);
+        assertThat(fast.getItems()).isEmpty();
+
+        slow.request(2);
+        assertThat(requests).containsExactly(4L);
+        slow.request(1);
+        assertThat(requests).containsExactly(4L, 3L);
+        assertThat(slow.getItems()).containsExactly(0, 1, 2);
+        assertThat(fast.getItems()).containsExactly(4, 5, 6);
+
+        slow.cancel();
+        fast.assertCompleted();
+        assertThat(fast.getItems()).containsExactlyElementsOf(range(4, 100));
+    }
+
+    @Test
+    @DisplayName("Pause the upstream publisher when there are no subscribers")
+    void pauseWithoutSubscribers() {
+        List<Long> requests = new CopyOnWriteArrayList<>();
+        Multicast<Integer> multicast = new Multicast<>(new Spy<>(ZeroPublisher.range(0, 100), requests), 4);
+
+        AssertSubscriber<Integer> first = AssertSubscriber.create(2);
+        multicast.subscribe(first);
+        first.cancel();
+        assertThat(requests).containsExactly(4L);
+
+        AssertSubscriber<Integer> second = AssertSubscriber.create(Long.MAX_VALUE);
+        multicast.subscribe(second);
+        second.assertCompleted();
+        assertThat(second.getItems()).containsExactlyElementsOf(range(4, 100));
+    }
+
+    @Test
+    @DisplayName("Only send the terminal signal to late subscribers")
+    void lateSubscriber() {
+        Flow.Publisher<Integer> multicast = ZeroPublisher.multicast(ZeroPublisher.range(0, 10), 16);
+
+        AssertSubscriber<Integer> first = AssertSubscriber.create(Long.MAX_VALUE);
+        multicast.subscribe(first);
+        first.assertCompleted().assertItems(0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
+
+        AssertSubscriber<Integer> late = AssertSubscriber.create(0);
+        multicast.subscribe(late);
+        late.assertCompleted().assertHasNotReceivedAnyItem();
+    }
+
+    @Test
+    @DisplayName("Forward failures to all subscribers after the pending items")
+    void failure() {
+        AtomicReference<Tube<Integer>> tubeRef = new AtomicReference<>();
+        Flow.Publisher<Integer> source = ZeroPublisher.create(
+                new TubeConfiguration().withBackpressureStrategy(BackpressureStrategy.BUFFER).withBufferSize(64),
+                tubeRef::set);
+        Flow.Publisher<Integer> multicast = ZeroPublisher.multicast(source, 16);
+
+        AssertSubscriber<Integer> first = AssertSubscriber.create(Long.MAX_VALUE);
+        AssertSubscriber<Integer> second = AssertSubscriber.create(0);
+        multicast.subscribe(first);
+        multicast.subscribe(second);
+        tubeRef.get().send(1).send(2).fail(new RuntimeException("boom"));
+
+        first.assertFailedWith(RuntimeException.class, "boom").assertItems(1, 2);
+        second.assertNotTerminated();
+        second.request(2);
+        second.assertFailedWith(RuntimeException.class, "boom").assertItems(1, 2);
+    }
+
+    @Test
+    @DisplayName("Only fail subscribers making bad requests")
+    void badRequest() {
+        AtomicReference<Tube<Integer>> tubeRef = new AtomicReference<>();
+        Flow.Publisher<Integer> source = ZeroPublisher.create(
+                new TubeConfiguration().withBackpressureStrategy(BackpressureStrategy.BUFFER).withBufferSize(64),
+                tubeRef::set);
+        Flow.Publisher<Integer> multicast = ZeroPublisher.multicast(source, 16);
+
+        AssertSubscriber<Integer> good = AssertSubscriber.create(Long.MAX_VALUE);
+        AssertSubscriber<Integer> bad = AssertSubscriber.create(0);
+        multicast.subscribe(good);
+        multicast.subscribe(bad);
+        bad.request(-1L);
+        tubeRef.get().send(1).send(2).complete();
+
+        bad.assertFailedWith(IllegalArgumentException.class, "non-positive subscription request");
+        good.assertCompleted().assertItems(1, 2);
+    }
+
+    @Test
+    @DisplayName("Deliver items to concurrent subscribers")
+    void concurrentSubscribers() {
+        AtomicReference<Tube<Integer>> tubeRef = new AtomicReference<>();
+        Flow.Publisher<Integer> source = ZeroPublisher.create(
+                new TubeConfiguration().withBackpressureStrategy(BackpressureStrategy.BUFFER).withBufferSize(20_000),
+                tubeRef::set);
+        Flow.Publisher<Integer> multicast = ZeroPublisher.multicast(source, 32);
+
+        List<AssertSubscriber<Integer>> subscribers = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            AssertSubscriber<Integer> sub = AssertSubscriber.create(Long.MAX_VALUE);
+            multicast.subscribe(sub);
+            subscribers.add(sub);
+        }
+        Thread producer = new Thread(() -> {
+            Tube<Integer> tube = tubeRef.get();
+            for (int i = 0; i < 10_000; i++) {
+                tube.send(i);
+            }
+            tube.complete();
+        });
+        producer.start();
+
+        for (AssertSubscriber<Integer> sub : subscribers) {
+            sub.awaitCompletion(Duration.ofSeconds(10));
+            assertThat(sub.getItems()).containsExactlyElementsOf(range(0, 10_000));
+        }
+    }
+
+    private static List<Integer> range(int start, int end) {
+        List<Integer> list = new ArrayList<>();
+        for (int i = start; i < end; i++) {
+            list.add(i);
+        }
+        return list;
+    }
+
+    // Records the requests made to a publisher
+    private static class Spy<T> implements Flow.Publisher<T> {
+
+        private final Flow.Publisher<T> publisher;
+        private final List<Long> requests;
+
+        Spy(Flow.Publisher<T> publisher, List<Long> requests) {
+            this.publisher = publisher;
+            this.requests = requests;
+        }
+
+        @Override
+        public void subscribe(Flow.Subscriber<? super T> subscriber) {
+            publisher.subscribe(new Flow.Subscriber<T>() {
+                @Override
+                public void onSubscribe(Flow.Subscription subscription) {
+                    subscriber.onSubscribe(new Flow.Subscription() {
+                        @Override
+                        public void request(long n) {
+                            requests.add(n);
+                            subscription.request(n);
+                        }
+
+                        @Override
+                        public void cancel() {
+                            subscription.cancel();
+                        }
+                    });
+                }
+
+                @Override
+                public void onNext(T item) {
+                    subscriber.onNext(item);
+                }
+
+                @Override
+                public void onError(Throwable throwable) {
+                    subscriber.onError(throwable);
+                }
+
+                @Override
+                public void onComplete() {
+                    subscriber.onComplete();
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package mutiny.zero.operators;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.mutiny.helpers.test.AssertSubscriber;
+import mutiny.zero.BackpressureStrategy;
+import mutiny.zero.TubeConfiguration;
+import mutiny.zero.ZeroPublisher;
+
+@DisplayName("ObserveOn operator tests")
+class ObserveOnTest {
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newSingleThreadExecutor(task -> new Thread(task, "observer"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Reject bad parameters")
+    void rejectBadParameters() {
+        assertThatThrownBy(() -> new ObserveOn<>(null, executor))
+                .isInstanceOf(NullPointerException.class)
+                .hasMessageContaining("cannot be null");
+        assertThatThrownBy(() -> new ObserveOn<>(ZeroPublisher.empty(), null))
+                .isInstanceOf(NullPointerException.class)
+                .hasMessageContaining("cannot be null");
+        assertThatThrownBy(() -> new ObserveOn<>(ZeroPublisher.empty(), executor, 0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("prefetch");
+    }
+
+    @Test
+    @DisplayName("Dispatch signals on the executor")
+    void dispatchOnExecutor() {
+        List<String> threads = new CopyOnWriteArrayList<>();
+        Flow.Publisher<Integer> source = ZeroPublisher.range(0, 1000);
+        Flow.Publisher<Integer> operator = new Transform<>(new ObserveOn<>(source, executor, 16), n -> {
+            threads.add(Thread.currentThread().getName());
+            return n;
+        });
+
+        AssertSubscriber<Integer> sub = AssertSubscriber.create(Long.MAX_VALUE);
+        operator.subscribe(sub);
+
+        sub.awaitCompletion(Duration.ofSeconds(5));
+        assertThat(sub.getItems()).hasSize(1000);
+        for (int i = 0; i < 1000; i++) {
+            assertThat(sub.getItems().get(i)).isEqualTo(i);
+        }
+        assertThat(threads).hasSize(1000).containsOnly("observer");
+    }
+
+    @Test
+    @DisplayName("Prefetch and replenish the upstream demand at 75% consumption")
+    void prefetchAndReplenish() {
+        List<Long> requests = new CopyOnWriteArrayList<>();
+        AtomicInteger counter = new AtomicInteger();
+        TubeConfiguration configuration = new TubeConfiguration()
+                .withBackpressureStrategy(BackpressureStrategy.ERROR);
+        Flow.Publisher<Integer> source = ZeroPublisher.create(configuration, tube -> {
+            tube.whenRequested(n -> {
+                requests.add(n);
+                for (long i = 0; i < n && counter.get() < 100; i++) {
+                    tube.send(counter.getAndIncrement());
+                }
+                if (counter.get() == 100) {
+                    tube.complete();
+                }
+            });
+        });
+        ObserveOn<Integer> operator = new ObserveOn<>(source, executor, 8);
+
+        AssertSubscriber<Integer> sub = AssertSubscriber.create(Long.MAX_VALUE);
+        operator.subscribe(sub);
+
+        sub.awaitCompletion(Duration.ofSeconds(5));
+        assertThat(sub.getItems()).hasSize(100);
+        assertThat(requests.get(0)).isEqualTo(8L);
+        assertThat(requests.subList(1, requests.size())).containsOnly(6L);
+    }
+
+    @Test
+    @DisplayName("Honour the downstream demand")
+    void honourDemand() {
+        ObserveOn<Integer> operator = new ObserveOn<>(ZeroPublisher.range(0, 100), executor, 8);
+
+        AssertSubscriber<Integer> sub = AssertSubscriber.create(5);
+        operator.subscribe(sub);
+
+        sub.awaitItems(5, Duration.ofSeconds(5));
+        sub.assertNotTerminated();
+        sub.request(95);
+        sub.awaitCompletion(Duration.ofSeconds(5));
+        assertThat(sub.getItems()).hasSize(100);
+    }
+
+    @Test
+    @DisplayName("Forward failures")
+    void forwardFailure() {
+        ObserveOn<Object> operator = new ObserveOn<>(ZeroPublisher.fromFailure(new RuntimeException("boom")), executor);
+
+        AssertSubscriber<Object> sub = AssertSubscriber.create(10);
+        operator.subscribe(sub);
+
+        sub.awaitFailure(Duration.ofSeconds(5)).assertFailedWith(RuntimeException.class, "boom");
+    }
+
+    @Test
+    @DisplayName("Reject non-positive requests")
+    void rejectNonPositiveRequests() {
+        ObserveOn<Integer> operator = new ObserveOn<>(ZeroPublisher.range(0, 100), executor);
+
+        AssertSubscriber<Integer> sub = AssertSubscriber.create(0);
+        operator.subscribe(sub);
+        sub.request(-1);
+
+        sub.awaitFailure(Duration.ofSeconds(5)).assertFailedWith(IllegalArgumentException.class, "non-positive");
+    }
+
+    @Test
+    @DisplayName("Cancel the upstream subscription")
+    void cancel() {
+        AtomicBoolean cancelled = new AtomicBoolean();
+        Flow.Publisher<Integer> source = ZeroPublisher.create(new TubeConfiguration(), tube -> {
+            tube.whenCancelled(() -> cancelled.set(true));
+            tube.send(1);
+        });
+        ObserveOn<Integer> operator = new ObserveOn<>(source, executor);
+
+        AssertSubscriber<Integer> sub = AssertSubscriber.create(10);
+        operator.subscribe(sub);
+
+        sub.awaitItems(1, Duration.ofSeconds(5));
+        sub.cancel();
+        assertThat(cancelled).isTrue();
+    }
+
+    @Test
+    @DisplayName("Fail when the executor rejects tasks")
+    void rejectedExecution() {
+        executor.shutdown();
+        ObserveOn<Integer> operator = new ObserveOn<>(ZeroPublisher.range(0, 100), executor);
+
+        AssertSubscriber<Integer> sub = AssertSubscriber.create(10);
+        operator.subscribe(sub);
+
+        sub.assertFailedWith(RejectedExecutionException.class);
+    }
+}
@@ -0,0 +1,191 @@
+package mutiny.zero.operators;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.mutiny.helpers.test.AssertSubscriber;
+import mutiny.zero.BackpressureStrategy;
+import mutiny.zero.Tube;
+import mutiny.zero.TubeConfiguration;
+import mutiny.zero.ZeroPublisher;
+
+@DisplayName("Replay publisher tests")
+class ReplayTest {
+
+    private static final Duration LONG_TTL = Duration.ofMinutes(10);
+
+    @Test
+    @DisplayName("Reject bad parameters")
+    void rejectBadParameters() {
+        assertThatThrownBy(() -> new Replay<>(null, 16, LONG_TTL))
+                .isInstanceOf(NullPointerException.class)
+                .hasMessageContaining("cannot be null");
+        assertThatThrownBy(() -> new Replay<>(ZeroPublisher.empty(), 0, LONG_TTL))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("maximum number of items");
+        assertThatThrownBy(() -> new Replay<>(ZeroPublisher.empty(), 16, null))
+                .isInstanceOf(NullPointerException.class)
+                .hasMessageContaining("cannot be null");
+        assertThatThrownBy(() -> new Replay<>(ZeroPublisher.empty(), 16, Duration.ofSeconds(-1)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("time-to-live");
+    }
+
+    @Test
+    @DisplayName("Subscribe once and replay the cached items and terminal signal")
+    void replayCompleted() {
+        AtomicInteger calls = new AtomicInteger();
+        Flow.Publisher<String> source = ZeroPublisher.fromCompletionStage(() -> {
+            calls.incrementAndGet();
+            return CompletableFuture.completedFuture("ok");
+        });
+        Flow.Publisher<String> replay = ZeroPublisher.replay(source, 16, LONG_TTL);
+
+        for (int i = 0; i < 3; i++) {
+            AssertSubscriber<String> sub = AssertSubscriber.create(10);
+            replay.subscribe(sub);
+            sub.assertCompleted().assertItems("ok");
+        }
+        assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Replay the cached items before the live ones")
+    void replayThenLive() {
+        AtomicReference<Tube<Integer>> tubeRef = new AtomicReference<>();
+        Flow.Publisher<Integer> source = ZeroPublisher.create(
+                new TubeConfiguration().withBackpressureStrategy(BackpressureStrategy.BUFFER).withBufferSize(64),
+                tubeRef::set);
+        Flow.Publisher<Integer> replay = ZeroPublisher.replay(source, 16, LONG_TTL);
+
+        AssertSubscriber<Integer> first = AssertSubscriber.create(Long.MAX_VALUE);
+        replay.subscribe(first);
+        Tube<Integer> tube = tubeRef.get();
+        tube.send(1).send(2);
+
+        AssertSubscriber<Integer> second = AssertSubscriber.create(Long.MAX_VALUE);
+        replay.subscribe(second);
+        second.assertItems(1, 2);
+
+        tube.send(3).complete();
+        first.assertCompleted().assertItems(1, 2, 3);
+        second.assertCompleted().assertItems(1, 2, 3);
+    }
+
+    @Test
+    @DisplayName("Bound the number of cached items")
+    void maxItems() {
+        Flow.Publisher<Integer> replay = ZeroPublisher.replay(ZeroPublisher.range(0, 100), 5, LONG_TTL);
+
+        AssertSubscriber<Integer> first = AssertSubscriber.create(Long.MAX_VALUE);
+        replay.subscribe(first);
+        assertThat(first.getItems()).hasSize(100);
+
+        AssertSubscriber<Integer> late = AssertSubscriber.create(Long.MAX_VALUE);
+        replay.subscribe(late);
+        late.assertCompleted().assertItems(95, 96, 97, 98, 99);
+    }
+
+    @Test
+    @DisplayName("Evict items older than the time-to-live")
+    void ttl() throws InterruptedException {
+        AtomicReference<Tube<Integer>> tubeRef = new AtomicReference<>();
+        Flow.Publisher<Integer> source = ZeroPublisher.create(
+                new TubeConfiguration().withBackpressureStrategy(BackpressureStrategy.BUFFER).withBufferSize(64),
+                tubeRef::set);
+        Flow.Publisher<Integer> replay = ZeroPublisher.replay(source, 16, Duration.ofMillis(50));
+
+        AssertSubscriber<Integer> first = AssertSubscriber.create(Long.MAX_VALUE);
+        replay.subscribe(first);
+        tubeRef.get().send(1).send(2);
+        Thread.sleep(100);
+        tubeRef.get().send(3);
+
+        AssertSubscriber<Integer> late = AssertSubscriber.create(Long.MAX_VALUE);
+        replay.subscribe(late);
+        late.assertItems(3);
+
+        Thread.sleep(100);
+        AssertSubscriber<Integer> later = AssertSubscriber.create(Long.MAX_VALUE);
+        replay.subscribe(later);
+        later.assertHasNotReceivedAnyItem();
+    }
+
+    @Test
+    @DisplayName("Do not discard items a slow subscriber has not received yet")
+    void slowSubscriber() {
+        Flow.Publisher<Integer> replay = ZeroPublisher.replay(ZeroPublisher.range(0, 100), 2, LONG_TTL);
+
+        AssertSubscriber<Integer> slow = AssertSubscriber.create(10);
+        replay.subscribe(slow);
+        assertThat(slow.getItems()).hasSize(10);
+
+        slow.request(Long.MAX_VALUE);
+        slow.assertCompleted();
+        assertThat(slow.getItems()).hasSize(100);
+    }
+
+    @Test
+    @DisplayName("Gate the upstream publisher by the slowest subscriber")
+    void slowestSubscriberGatesUpstream() {
+        Flow.Publisher<Integer> replay = ZeroPublisher.replay(ZeroPublisher.range(0, 10_000), 2, LONG_TTL);
+
+        AssertSubscriber<Integer> stalled = AssertSubscriber.create(0);
+        replay.subscribe(stalled);
+        AssertSubscriber<Integer> fast = AssertSubscriber.create(Long.MAX_VALUE);
+        replay.subscribe(fast);
+        fast.assertHasNotReceivedAnyItem();
+
+        stalled.request(5);
+        stalled.assertItems(0, 1, 2, 3, 4);
+        fast.assertItems(0, 1, 2, 3, 4);
+
+        stalled.cancel();
+        fast.assertCompleted();
+        assertThat(fast.getItems()).hasSize(10_000);
+    }
+
+    @Test
+    @DisplayName("Replay failures")
+    void failure() {
+        Flow.Publisher<Integer> source = ZeroPublisher.create(new TubeConfiguration(), tube -> {
+            tube.send(1);
+            tube.fail(new RuntimeException("boom"));
+        });
+        Flow.Publisher<Integer> replay = ZeroPublisher.replay(source, 16, LONG_TTL);
+
+        AssertSubscriber<Integer> first = AssertSubscriber.create(1);
+        replay.subscribe(first);
+        first.assertFailedWith(RuntimeException.class, "boom").assertItems(1);
+
+        AssertSubscriber<Integer> late = AssertSubscriber.create(0);
+        replay.subscribe(late);
+        late.assertNotTerminated();
+        late.request(1);
+        late.assertFailedWith(RuntimeException.class, "boom").assertItems(1);
+    }
+
+    @Test
+    @DisplayName("Only fail subscribers making bad requests")
+    void badRequest() {
+        Flow.Publisher<Integer> replay = ZeroPublisher.replay(ZeroPublisher.range(0, 3), 16, LONG_TTL);
+
+        AssertSubscriber<Integer> bad = AssertSubscriber.create(0);
+        replay.subscribe(bad);
+        bad.request(-1L);
+        bad.assertFailedWith(IllegalArgumentException.class, "non-positive subscription request");
+
+        AssertSubscriber<Integer> good = AssertSubscriber.create(10);
+        replay.subscribe(good);
+        good.assertCompleted().assertItems(0, 1, 2);
+    }
+}
@@ -4,11 +4,14 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.*;
 
 import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import io.smallrye.mutiny.helpers.test.AssertSubscriber;
+import mutiny.zero.BackpressureStrategy;
+import mutiny.zero.TubeConfiguration;
 import mutiny.zero.ZeroPublisher;
 
 @DisplayName("Select operator tests")
@@ -55,4 +58,88 @@ class SelectTest {
 
         sub.assertFailedWith(RuntimeException.class, "yolo");
     }
+
+    @Test
+    @DisplayName("Reject a negative low watermark")
+    void rejectNegativeLowWatermark() {
+        assertThatThrownBy(() -> new Select<>(ZeroPublisher.empty(), o -> true, -1))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("low watermark");
+    }
+
+    @Test
+    @DisplayName("Replenish the demand consumed by rejected elements in batches")
+    void replenishInBatches() {
+        AtomicInteger requests = new AtomicInteger();
+        Flow.Publisher<Integer> source = ZeroPublisher.range(0, 10_000);
+        Flow.Publisher<Integer> counting = subscriber -> source.subscribe(new Flow.Subscriber<>() {
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                subscriber.onSubscribe(new Flow.Subscription() {
+                    @Override
+                    public void request(long n) {
+                        requests.incrementAndGet();
+                        subscription.request(n);
+                    }
+
+                    @Override
+                    public void cancel() {
+                        subscription.cancel();
+                    }
+                });
+            }
+
+            @Override
+            public void onNext(Integer item) {
+                subscriber.onNext(item);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                subscriber.onError(throwable);
+            }
+
+            @Override
+            public void onComplete() {
+                subscriber.onComplete();
+            }
+        });
+        Select<Integer> operator = new Select<>(counting, n -> n % 100 == 0);
+
+        AssertSubscriber<Object> sub = AssertSubscriber.create(50);
+        operator.subscribe(sub);
+
+        sub.assertNotTerminated();
+        assertEquals(50, sub.getItems().size());
+        assertEquals(4900, sub.getItems().get(49));
+        // Replenishing one element at a time would take 4900 requests
+        assertTrue(requests.get() < 1000, "Too many upstream requests: " + requests.get());
+
+        // One more element than available, so that the trailing rejected elements get requested
+        sub.request(51);
+        sub.assertCompleted();
+        assertEquals(100, sub.getItems().size());
+    }
+
+    @Test
+    @DisplayName("Do not stall over a back-pressured tube when rejecting all the requested elements")
+    void noStallOverTube() {
+        TubeConfiguration configuration = new TubeConfiguration()
+                .withBackpressureStrategy(BackpressureStrategy.ERROR);
+        AtomicInteger counter = new AtomicInteger();
+        Flow.Publisher<Integer> source = ZeroPublisher.create(configuration, tube -> {
+            tube.whenRequested(n -> {
+                for (long i = 0; i < n; i++) {
+                    tube.send(counter.incrementAndGet());
+                }
+            });
+        });
+        Select<Integer> operator = new Select<>(source, n -> n % 10 == 0, 0);
+
+        AssertSubscriber<Object> sub = AssertSubscriber.create(3);
+        operator.subscribe(sub);
+
+        sub.assertNotTerminated().assertItems(10, 20, 30);
+        assertEquals(30, counter.get());
+    }
 }
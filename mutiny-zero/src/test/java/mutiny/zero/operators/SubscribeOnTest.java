@@ -0,0 +1,143 @@
+package mutiny.zero.operators;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.mutiny.helpers.test.AssertSubscriber;
+import mutiny.zero.TubeConfiguration;
+import mutiny.zero.ZeroPublisher;
+
+@DisplayName("SubscribeOn operator tests")
+class SubscribeOnTest {
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newSingleThreadExecutor(task -> new Thread(task, "subscriber"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Reject bad parameters")
+    void rejectBadParameters() {
+        assertThatThrownBy(() -> new SubscribeOn<>(null, executor))
+                .isInstanceOf(NullPointerException.class)
+                .hasMessageContaining("cannot be null");
+        assertThatThrownBy(() -> new SubscribeOn<>(ZeroPublisher.empty(), null))
+                .isInstanceOf(NullPointerException.class)
+                .hasMessageContaining("cannot be null");
+    }
+
+    @Test
+    @DisplayName("Subscribe and request on the executor")
+    void subscribeAndRequestOnExecutor() {
+        List<String> threads = new CopyOnWriteArrayList<>();
+        Flow.Publisher<Integer> source = ZeroPublisher.fromGenerator(() -> 0, state -> new Iterator<>() {
+            int next;
+
+            @Override
+            public boolean hasNext() {
+                return true;
+            }
+
+            @Override
+            public Integer next() {
+                threads.add(Thread.currentThread().getName());
+                return next++;
+            }
+        });
+        SubscribeOn<Integer> operator = new SubscribeOn<>(source, executor);
+
+        AssertSubscriber<Integer> sub = AssertSubscriber.create();
+        operator.subscribe(sub);
+
+        sub.awaitSubscription(Duration.ofSeconds(5));
+        for (int i = 0; i < 10; i++) {
+            sub.request(10);
+        }
+        sub.awaitItems(100, Duration.ofSeconds(5));
+        for (int i = 0; i < 100; i++) {
+            assertThat(sub.getItems().get(i)).isEqualTo(i);
+        }
+        assertThat(threads).containsOnly("subscriber");
+    }
+
+    @Test
+    @DisplayName("Serialize concurrent requests")
+    void concurrentRequests() throws InterruptedException {
+        SubscribeOn<Integer> operator = new SubscribeOn<>(ZeroPublisher.range(0, 10_000), executor);
+
+        AssertSubscriber<Integer> sub = AssertSubscriber.create();
+        operator.subscribe(sub);
+        sub.awaitSubscription(Duration.ofSeconds(5));
+
+        Thread[] requesters = new Thread[4];
+        for (int t = 0; t < requesters.length; t++) {
+            requesters[t] = new Thread(() -> {
+                for (int i = 0; i < 2500; i++) {
+                    sub.request(1);
+                }
+            });
+            requesters[t].start();
+        }
+        for (Thread requester : requesters) {
+            requester.join();
+        }
+
+        sub.awaitCompletion(Duration.ofSeconds(5));
+        assertThat(sub.getItems()).hasSize(10_000);
+        for (int i = 0; i < 10_000; i++) {
+            assertThat(sub.getItems().get(i)).isEqualTo(i);
+        }
+    }
+
+    @Test
+    @DisplayName("Cancel the upstream subscription")
+    void cancel() {
+        AtomicBoolean cancelled = new AtomicBoolean();
+        Flow.Publisher<Integer> source = ZeroPublisher.create(new TubeConfiguration(), tube -> {
+            tube.whenCancelled(() -> cancelled.set(true));
+            tube.whenRequested(n -> tube.send(1));
+        });
+        SubscribeOn<Integer> operator = new SubscribeOn<>(source, executor);
+
+        AssertSubscriber<Integer> sub = AssertSubscriber.create(10);
+        operator.subscribe(sub);
+        sub.awaitItems(1, Duration.ofSeconds(5));
+        sub.cancel();
+
+        assertThat(cancelled).isTrue();
+    }
+
+    @Test
+    @DisplayName("Fail when the executor rejects the subscription")
+    void rejectedExecution() {
+        executor.shutdown();
+        SubscribeOn<Integer> operator = new SubscribeOn<>(ZeroPublisher.range(0, 100), executor);
+
+        AssertSubscriber<Integer> sub = AssertSubscriber.create(10);
+        operator.subscribe(sub);
+
+        sub.assertFailedWith(RejectedExecutionException.class);
+    }
+}
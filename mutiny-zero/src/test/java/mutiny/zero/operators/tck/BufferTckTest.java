@@ -0,0 +1,46 @@
+package mutiny.zero.operators.tck;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ScheduledExecutorService;
+
+import org.reactivestreams.tck.TestEnvironment;
+import org.reactivestreams.tck.flow.FlowPublisherVerification;
+import org.testng.annotations.AfterClass;
+
+import io.smallrye.mutiny.Multi;
+import mutiny.zero.operators.Buffer;
+
+public class BufferTckTest extends FlowPublisherVerification<List<Long>> {
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+
+    public BufferTckTest() {
+        super(new TestEnvironment());
+    }
+
+    @AfterClass
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    @Override
+    public Flow.Publisher<List<Long>> createFlowPublisher(long count) {
+        Flow.Publisher<Long> source;
+        if (count > 0) {
+            Random random = new Random();
+            source = Multi.createBy().repeating().supplier(random::nextLong).atMost(count * 4);
+        } else {
+            source = Multi.createFrom().empty();
+        }
+        return new Buffer<>(source, 4, Duration.ofSeconds(10), scheduler);
+    }
+
+    @Override
+    public Flow.Publisher<List<Long>> createFailedFlowPublisher() {
+        return new Buffer<>(Multi.createFrom().failure(new RuntimeException("boom")), 4);
+    }
+}
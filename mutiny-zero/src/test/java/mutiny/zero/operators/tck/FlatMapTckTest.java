@@ -0,0 +1,28 @@
+package mutiny.zero.operators.tck;
+
+import java.util.concurrent.Flow;
+
+import org.reactivestreams.tck.TestEnvironment;
+import org.reactivestreams.tck.flow.FlowPublisherVerification;
+
+import io.smallrye.mutiny.Multi;
+import mutiny.zero.ZeroPublisher;
+import mutiny.zero.operators.FlatMap;
+
+public class FlatMapTckTest extends FlowPublisherVerification<Long> {
+
+    public FlatMapTckTest() {
+        super(new TestEnvironment());
+    }
+
+    @Override
+    public Flow.Publisher<Long> createFlowPublisher(long count) {
+        Flow.Publisher<Long> source = ZeroPublisher.rangeLong(0L, count);
+        return new FlatMap<>(source, n -> (n % 2 == 0) ? ZeroPublisher.fromItems(n) : Multi.createFrom().item(n), 4, 16);
+    }
+
+    @Override
+    public Flow.Publisher<Long> createFailedFlowPublisher() {
+        return new FlatMap<>(ZeroPublisher.<Long> fromFailure(new RuntimeException("boom")), ZeroPublisher::fromItems);
+    }
+}
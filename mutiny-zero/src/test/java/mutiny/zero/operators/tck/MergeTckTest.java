@@ -0,0 +1,39 @@
+package mutiny.zero.operators.tck;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.Flow;
+
+import org.reactivestreams.tck.TestEnvironment;
+import org.reactivestreams.tck.flow.FlowPublisherVerification;
+
+import io.smallrye.mutiny.Multi;
+import mutiny.zero.operators.Merge;
+
+public class MergeTckTest extends FlowPublisherVerification<Long> {
+
+    public MergeTckTest() {
+        super(new TestEnvironment());
+    }
+
+    @Override
+    public Flow.Publisher<Long> createFlowPublisher(long count) {
+        long half = count / 2;
+        return new Merge<>(Arrays.asList(source(half), source(count - half)), 2, 16);
+    }
+
+    private Flow.Publisher<Long> source(long count) {
+        if (count > 0) {
+            Random random = new Random();
+            return Multi.createBy().repeating().supplier(random::nextLong).atMost(count);
+        } else {
+            return Multi.createFrom().empty();
+        }
+    }
+
+    @Override
+    public Flow.Publisher<Long> createFailedFlowPublisher() {
+        Flow.Publisher<Long> failed = Multi.createFrom().failure(new RuntimeException("boom"));
+        return new Merge<>(Arrays.asList(Multi.createFrom().empty(), failed));
+    }
+}
@@ -0,0 +1,34 @@
+package mutiny.zero.operators.tck;
+
+import java.util.Random;
+import java.util.concurrent.Flow;
+
+import org.reactivestreams.tck.TestEnvironment;
+import org.reactivestreams.tck.flow.FlowPublisherVerification;
+
+import io.smallrye.mutiny.Multi;
+import mutiny.zero.operators.Multicast;
+
+public class MulticastTckTest extends FlowPublisherVerification<Long> {
+
+    public MulticastTckTest() {
+        super(new TestEnvironment());
+    }
+
+    @Override
+    public Flow.Publisher<Long> createFlowPublisher(long count) {
+        Flow.Publisher<Long> source;
+        if (count > 0) {
+            Random random = new Random();
+            source = Multi.createBy().repeating().supplier(random::nextLong).atMost(count);
+        } else {
+            source = Multi.createFrom().empty();
+        }
+        return new Multicast<>(source, 16);
+    }
+
+    @Override
+    public Flow.Publisher<Long> createFailedFlowPublisher() {
+        return new Multicast<>(Multi.createFrom().failure(new RuntimeException("boom")), 16);
+    }
+}
@@ -0,0 +1,35 @@
+package mutiny.zero.operators.tck;
+
+import java.util.Random;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+
+import org.reactivestreams.tck.TestEnvironment;
+import org.reactivestreams.tck.flow.FlowPublisherVerification;
+
+import io.smallrye.mutiny.Multi;
+import mutiny.zero.operators.ObserveOn;
+
+public class ObserveOnTckTest extends FlowPublisherVerification<Long> {
+
+    public ObserveOnTckTest() {
+        super(new TestEnvironment());
+    }
+
+    @Override
+    public Flow.Publisher<Long> createFlowPublisher(long count) {
+        Flow.Publisher<Long> source;
+        if (count > 0) {
+            Random random = new Random();
+            source = Multi.createBy().repeating().supplier(random::nextLong).atMost(count);
+        } else {
+            source = Multi.createFrom().empty();
+        }
+        return new ObserveOn<>(source, ForkJoinPool.commonPool(), 16);
+    }
+
+    @Override
+    public Flow.Publisher<Long> createFailedFlowPublisher() {
+        return new ObserveOn<>(Multi.createFrom().failure(new RuntimeException("boom")), ForkJoinPool.commonPool());
+    }
+}
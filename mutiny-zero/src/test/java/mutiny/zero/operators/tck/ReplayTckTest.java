@@ -0,0 +1,35 @@
+package mutiny.zero.operators.tck;
+
+import java.time.Duration;
+import java.util.Random;
+import java.util.concurrent.Flow;
+
+import org.reactivestreams.tck.TestEnvironment;
+import org.reactivestreams.tck.flow.FlowPublisherVerification;
+
+import io.smallrye.mutiny.Multi;
+import mutiny.zero.operators.Replay;
+
+public class ReplayTckTest extends FlowPublisherVerification<Long> {
+
+    public ReplayTckTest() {
+        super(new TestEnvironment());
+    }
+
+    @Override
+    public Flow.Publisher<Long> createFlowPublisher(long count) {
+        Flow.Publisher<Long> source;
+        if (count > 0) {
+            Random random = new Random();
+            source = Multi.createBy().repeating().supplier(random::nextLong).atMost(count);
+        } else {
+            source = Multi.createFrom().empty();
+        }
+        return new Replay<>(source, 16, Duration.ofMinutes(10));
+    }
+
+    @Override
+    public Flow.Publisher<Long> createFailedFlowPublisher() {
+        return new Replay<>(Multi.createFrom().failure(new RuntimeException("boom")), 16, Duration.ofMinutes(10));
+    }
+}
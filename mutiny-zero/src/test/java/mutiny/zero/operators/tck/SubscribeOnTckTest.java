@@ -0,0 +1,35 @@
+package mutiny.zero.operators.tck;
+
+import java.util.Random;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+
+import org.reactivestreams.tck.TestEnvironment;
+import org.reactivestreams.tck.flow.FlowPublisherVerification;
+
+import io.smallrye.mutiny.Multi;
+import mutiny.zero.operators.SubscribeOn;
+
+public class SubscribeOnTckTest extends FlowPublisherVerification<Long> {
+
+    public SubscribeOnTckTest() {
+        super(new TestEnvironment());
+    }
+
+    @Override
+    public Flow.Publisher<Long> createFlowPublisher(long count) {
+        Flow.Publisher<Long> source;
+        if (count > 0) {
+            Random random = new Random();
+            source = Multi.createBy().repeating().supplier(random::nextLong).atMost(count);
+        } else {
+            source = Multi.createFrom().empty();
+        }
+        return new SubscribeOn<>(source, ForkJoinPool.commonPool());
+    }
+
+    @Override
+    public Flow.Publisher<Long> createFailedFlowPublisher() {
+        return new SubscribeOn<>(Multi.createFrom().failure(new RuntimeException("boom")), ForkJoinPool.commonPool());
+    }
+}
@@ -0,0 +1,35 @@
+package mutiny.zero.tck;
+
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.Flow;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import org.reactivestreams.tck.TestEnvironment;
+import org.reactivestreams.tck.flow.FlowPublisherVerification;
+
+import mutiny.zero.ZeroPublisher;
+
+public class LinkedListPublisherTckTest extends FlowPublisherVerification<Long> {
+
+    public LinkedListPublisherTckTest() {
+        super(new TestEnvironment());
+    }
+
+    @Override
+    public Flow.Publisher<Long> createFlowPublisher(long elements) {
+        List<Long> list = LongStream.rangeClosed(1, elements).boxed().collect(Collectors.toCollection(LinkedList::new));
+        return ZeroPublisher.fromIterable(list);
+    }
+
+    @Override
+    public Flow.Publisher<Long> createFailedFlowPublisher() {
+        return null;
+    }
+
+    @Override
+    public long maxElementsFromPublisher() {
+        return 1024L;
+    }
+}
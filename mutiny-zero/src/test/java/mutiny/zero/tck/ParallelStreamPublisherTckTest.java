@@ -0,0 +1,27 @@
+package mutiny.zero.tck;
+
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.LongStream;
+
+import org.reactivestreams.tck.TestEnvironment;
+import org.reactivestreams.tck.flow.FlowPublisherVerification;
+
+import mutiny.zero.ZeroPublisher;
+
+public class ParallelStreamPublisherTckTest extends FlowPublisherVerification<Long> {
+
+    public ParallelStreamPublisherTckTest() {
+        super(new TestEnvironment());
+    }
+
+    @Override
+    public Flow.Publisher<Long> createFlowPublisher(long elements) {
+        return ZeroPublisher.fromStreamParallel(() -> LongStream.range(0L, elements).boxed(), 4, ForkJoinPool.commonPool());
+    }
+
+    @Override
+    public Flow.Publisher<Long> createFailedFlowPublisher() {
+        return null;
+    }
+}
@@ -0,0 +1,34 @@
+package mutiny.zero.tck;
+
+import java.util.List;
+import java.util.concurrent.Flow;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import org.reactivestreams.tck.TestEnvironment;
+import org.reactivestreams.tck.flow.FlowPublisherVerification;
+
+import mutiny.zero.ZeroPublisher;
+
+public class RandomAccessListPublisherTckTest extends FlowPublisherVerification<Long> {
+
+    public RandomAccessListPublisherTckTest() {
+        super(new TestEnvironment());
+    }
+
+    @Override
+    public Flow.Publisher<Long> createFlowPublisher(long elements) {
+        List<Long> list = LongStream.rangeClosed(1, elements).boxed().collect(Collectors.toList());
+        return ZeroPublisher.fromIterable(list);
+    }
+
+    @Override
+    public Flow.Publisher<Long> createFailedFlowPublisher() {
+        return null;
+    }
+
+    @Override
+    public long maxElementsFromPublisher() {
+        return 1024L;
+    }
+}
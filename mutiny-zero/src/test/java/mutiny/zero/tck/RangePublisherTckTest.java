@@ -0,0 +1,25 @@
+package mutiny.zero.tck;
+
+import java.util.concurrent.Flow;
+
+import org.reactivestreams.tck.TestEnvironment;
+import org.reactivestreams.tck.flow.FlowPublisherVerification;
+
+import mutiny.zero.ZeroPublisher;
+
+public class RangePublisherTckTest extends FlowPublisherVerification<Long> {
+
+    public RangePublisherTckTest() {
+        super(new TestEnvironment());
+    }
+
+    @Override
+    public Flow.Publisher<Long> createFlowPublisher(long elements) {
+        return ZeroPublisher.rangeLong(0L, elements);
+    }
+
+    @Override
+    public Flow.Publisher<Long> createFailedFlowPublisher() {
+        return null;
+    }
+}